@@ -1,24 +1,53 @@
 package com.xkzhangsan.time;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.chrono.IsoChronology;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.xkzhangsan.time.calculator.DateTimeCalculatorUtil;
 import com.xkzhangsan.time.converter.DateTimeConverterUtil;
 import com.xkzhangsan.time.holiday.Holiday;
+import com.xkzhangsan.time.utils.StringUtil;
 
 /**
  * 农历日期
  * 1.农历日期年月日计算
- * 2.农历岁次，生肖属相计算
+ * 2.农历岁次，月干支、日干支，生肖属相计算
  * 3.二十四节气计算
- * 仅支持公历1901-1950年的农历转换
+ * 4.批量转换，toLunarValues将epochDay或时间戳数组转换为农历数值信息数组，不创建对象
+ * 5.区间遍历，stream(startInclusive, endInclusive)逐日递推生成LunarDate
+ * 6.农历计算，plusLunarMonths、plusLunarYears等按农历月表计算，返回LunarDate，Temporal的plus、with和until按公历计算
+ * 支持农历1900-2100年的农历转换，即公历1900-01-31至2101-01-28
+ * 农历数据保存在lunar.dat中，类加载时读入
 * @ClassName: LunarDate 
 * @Description: LunarDate
 * @author xkzhangsan
@@ -29,24 +58,6 @@ public final class LunarDate implements Temporal, Serializable{
 	
 	private static final long serialVersionUID = 7999322619343295974L;
 
-	/**
-	 * 农历信息
-	 */
-	private static final long[] lunarInfo = new long[] { 0x04bd8, 0x04ae0, 0x0a570, 0x054d5, 0x0d260, 0x0d950, 0x16554,
-			0x056a0, 0x09ad0, 0x055d2, 0x04ae0, 0x0a5b6, 0x0a4d0, 0x0d250, 0x1d255, 0x0b540, 0x0d6a0, 0x0ada2, 0x095b0,
-			0x14977, 0x04970, 0x0a4b0, 0x0b4b5, 0x06a50, 0x06d40, 0x1ab54, 0x02b60, 0x09570, 0x052f2, 0x04970, 0x06566,
-			0x0d4a0, 0x0ea50, 0x06e95, 0x05ad0, 0x02b60, 0x186e3, 0x092e0, 0x1c8d7, 0x0c950, 0x0d4a0, 0x1d8a6, 0x0b550,
-			0x056a0, 0x1a5b4, 0x025d0, 0x092d0, 0x0d2b2, 0x0a950, 0x0b557, 0x06ca0, 0x0b550, 0x15355, 0x04da0, 0x0a5b0,
-			0x14573, 0x052b0, 0x0a9a8, 0x0e950, 0x06aa0, 0x0aea6, 0x0ab50, 0x04b60, 0x0aae4, 0x0a570, 0x05260, 0x0f263,
-			0x0d950, 0x05b57, 0x056a0, 0x096d0, 0x04dd5, 0x04ad0, 0x0a4d0, 0x0d4d4, 0x0d250, 0x0d558, 0x0b540, 0x0b6a0,
-			0x195a6, 0x095b0, 0x049b0, 0x0a974, 0x0a4b0, 0x0b27a, 0x06a50, 0x06d40, 0x0af46, 0x0ab60, 0x09570, 0x04af5,
-			0x04970, 0x064b0, 0x074a3, 0x0ea50, 0x06b58, 0x055c0, 0x0ab60, 0x096d5, 0x092e0, 0x0c960, 0x0d954, 0x0d4a0,
-			0x0da50, 0x07552, 0x056a0, 0x0abb7, 0x025d0, 0x092d0, 0x0cab5, 0x0a950, 0x0b4a0, 0x0baa4, 0x0ad50, 0x055d9,
-			0x04ba0, 0x0a5b0, 0x15176, 0x052b0, 0x0a930, 0x07954, 0x06aa0, 0x0ad50, 0x05b52, 0x04b60, 0x0a6e6, 0x0a4e0,
-			0x0d260, 0x0ea65, 0x0d530, 0x05aa0, 0x076a3, 0x096d0, 0x04bd7, 0x04ad0, 0x0a4d0, 0x1d0b6, 0x0d250, 0x0d520,
-			0x0dd45, 0x0b5a0, 0x056d0, 0x055b2, 0x049b0, 0x0a577, 0x0a4b0, 0x0aa50, 0x1b255, 0x06d20, 0x0ada0,
-			0x14b63 };
-
 	/**
 	 * 农历月份列表
 	 */
@@ -63,6 +74,17 @@ public final class LunarDate implements Temporal, Serializable{
 	 */
 	private static final String[] diZhi = new String[] { "子", "丑", "寅", "卯", "辰", "巳", "午", "未", "申", "酉", "戌", "亥" };
 
+	/**
+	 * 六十干支，下标0为甲子，创建时intern
+	 */
+	private static final String[] ganZhi = new String[60];
+	
+	static {
+		for (int i = 0; i < ganZhi.length; i++) {
+			ganZhi[i] = (tianGan[i % 10] + diZhi[i % 12]).intern();
+		}
+	}
+
 	/**
 	 * 生肖列表
 	 */
@@ -72,6 +94,17 @@ public final class LunarDate implements Temporal, Serializable{
 	 * 中文数字0-9
 	 */
 	public static final String[] numStr = new String[] { "〇", "一", "二", "三", "四", "五", "六", "七", "八", "九"};	
+	
+	/**
+	 * 农历日中文，下标为农历日
+	 */
+	private static final String[] chinaDays = new String[31];
+	
+	static {
+		for (int day = 1; day < chinaDays.length; day++) {
+			chinaDays[day] = getChinaDay(day);
+		}
+	}
 
 	
 	/**
@@ -86,114 +119,170 @@ public final class LunarDate implements Temporal, Serializable{
 	private static final long[] solarTermInfo = new long[] {0,21208,42467,63836,85337,107014,128867,150921,173149,195551,218072,240693,263343,285989,308563,331033,353350,375494,397447,419210,440795,462224,483532,504758};
 	
 	/**
-	 * 标准日期
+	 * 农历数据文件
+	 * 格式（版本1，大端）：
+	 * 魔数"XKLD"(4) 版本(2) 起始年(2) 年数(2) 起始年正月初一epochDay(4) 24节气基准日(24)
+	 * 之后每年9字节：农历信息(3)，低17位同经典lunarInfo格式；24节气相对基准日的偏移(6)，每个节气2位
 	 */
-	private final LocalDate localDate;
-
+	private static final String LUNAR_DATA = "lunar.dat";
+	
+	private static final int LUNAR_DATA_MAGIC = 0x584B4C44;
+	
+	private static final int LUNAR_DATA_VERSION = 1;
+	
 	/**
-	 * 农历日期，中文
+	 * 农历数据起始年
 	 */
-	private String lDateCn;
-
+	private static final int MIN_YEAR;
+	
 	/**
-	 * 岁次
+	 * 农历数据结束年
 	 */
-	private String suiCi;
-
+	private static final int MAX_YEAR;
+	
 	/**
-	 * 生肖
+	 * 农历起始年正月初一的epochDay，1900年为公历1900-01-31
 	 */
-	private String lAnimal;
-
+	private static final int BASE_EPOCH_DAY;
+	
 	/**
-	 * 农历年
+	 * 农历信息，每年17位：0-3位闰月月份，4-15位1-12月大小月，16位闰月大小月
 	 */
-	private int lYear;
-
+	private static final int[] lunarInfo;
+	
 	/**
-	 * 农历月
+	 * 二十四节气所在的日，下标为(year - MIN_YEAR) * 24 + n
 	 */
-	private int lMonth;
-
+	private static final byte[] solarTermDays;
+	
 	/**
-	 * 农历日
+	 * 公元0年到1970年的天数，同LocalDate
 	 */
-	private int lDay;
-
+	private static final long DAYS_0000_TO_1970 = (146097 * 5L) - (30L * 365L + 7L);
+	
 	/**
-	 * 农历年，中文
+	 * 农历每月初一的epochDay，按顺序包含闰月，最后一位为结束哨兵
 	 */
-	private String lYearCn;
-
+	private static final int[] lunarMonthStartDays;
+	
 	/**
-	 * 农历月，中文
+	 * 农历每月信息，与lunarMonthStartDays对应，(year - 1900) << 5 | month << 1 | isLeap
 	 */
-	private String lMonthCn;
-
+	private static final int[] lunarMonthInfo;
+	
 	/**
-	 * 农历日，中文
+	 * 农历每年正月在lunarMonthStartDays中的位置，最后一位为结束哨兵
 	 */
-	private String lDayCn;
-
+	private static final int[] lunarYearMonthIndex;
+	
+	static {
+		InputStream resource = LunarDate.class.getResourceAsStream(LUNAR_DATA);
+		if (resource == null) {
+			throw new IllegalStateException(LUNAR_DATA + " not found");
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(resource))) {
+			if (in.readInt() != LUNAR_DATA_MAGIC) {
+				throw new IllegalStateException(LUNAR_DATA + " is not a lunar data file");
+			}
+			int version = in.readUnsignedShort();
+			if (version != LUNAR_DATA_VERSION) {
+				throw new IllegalStateException(LUNAR_DATA + " version " + version + " is not supported");
+			}
+			MIN_YEAR = in.readUnsignedShort();
+			int count = in.readUnsignedShort();
+			MAX_YEAR = MIN_YEAR + count - 1;
+			BASE_EPOCH_DAY = in.readInt();
+			byte[] solarTermBase = new byte[24];
+			in.readFully(solarTermBase);
+			lunarInfo = new int[count];
+			solarTermDays = new byte[count * 24];
+			for (int i = 0; i < count; i++) {
+				lunarInfo[i] = in.readUnsignedByte() << 16 | in.readUnsignedShort();
+				long offset = (long) in.readUnsignedShort() << 32 | (in.readInt() & 0xffffffffL);
+				for (int n = 0; n < 24; n++) {
+					solarTermDays[i * 24 + n] = (byte) (solarTermBase[n] + ((offset >>> (46 - 2 * n)) & 0x3));
+				}
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("load " + LUNAR_DATA + " error", e);
+		}
+		
+		int yearCount = lunarInfo.length;
+		int[] monthStartDays = new int[yearCount * 13 + 1];
+		int[] monthInfo = new int[yearCount * 13];
+		int[] yearMonthIndex = new int[yearCount + 1];
+		int index = 0;
+		int startDay = BASE_EPOCH_DAY;
+		for (int i = 0; i < yearCount; i++) {
+			int year = MIN_YEAR + i;
+			int leap = leapMonth(year);
+			yearMonthIndex[i] = index;
+			for (int month = 1; month <= 12; month++) {
+				monthStartDays[index] = startDay;
+				monthInfo[index] = i << 5 | month << 1;
+				startDay += monthDays(year, month);
+				index++;
+				if (month == leap) {
+					monthStartDays[index] = startDay;
+					monthInfo[index] = i << 5 | month << 1 | 1;
+					startDay += leapMonthDays(year);
+					index++;
+				}
+			}
+		}
+		yearMonthIndex[yearCount] = index;
+		monthStartDays[index] = startDay;
+		lunarMonthStartDays = Arrays.copyOf(monthStartDays, index + 1);
+		lunarMonthInfo = Arrays.copyOf(monthInfo, index);
+		lunarYearMonthIndex = yearMonthIndex;
+	}
+	
 	/**
-	 * 星期，中文
+	 * 标准日期
 	 */
-	private String weekCn;
-	
+	private final LocalDate localDate;
+
 	/**
-	 * 二十四节气 
+	 * 农历数值信息，格式见pack方法，创建失败时为0
 	 */
-	private String solarTerm;
-	
+	private final int lunarValue;
+
 	/**
-	 * 当前日期月份是否为闰月，是 为"闰"
+	 * 农历日期，中文，首次访问时生成
 	 */
-	private String leapMonthCn;
+	private transient String lDateCn;
 
-	private LunarDate(LocalDate localDate) {
+	LunarDate(LocalDate localDate) {
 		super();
 		this.localDate = localDate;
 		
+		int value = 0;
 		try {
-			initialize();
+			value = lunarValue(localDate.toEpochDay(), localDate.getYear(), localDate.getMonthValue(),
+					localDate.getDayOfMonth());
 		} catch (Exception e) {
 			System.err.println("new LunarDate has error: " + e.getMessage());
 		}
+		this.lunarValue = value;
+	}
+	
+	/**
+	 * 使用已经计算好的农历数值信息创建
+	 * @param localDate
+	 * @param lunarValue 格式见pack方法
+	 */
+	LunarDate(LocalDate localDate, int lunarValue) {
+		super();
+		this.localDate = localDate;
+		this.lunarValue = lunarValue;
 	}
 	
 	/**
 	 * 初始化农历日期
+	 * 创建时已经计算农历数值，中文信息在首次访问时生成，不需要再调用
 	 */
+	@Deprecated
 	public void initialize() {
-		int year = localDate.getYear();
-		int month = localDate.getMonthValue();
-		int day = localDate.getDayOfMonth();
-		long[] l = calElement(year, month, day);
-		
-		this.lYear = (int) l[0];
-		this.lMonth = (int) l[1];
-		this.lDay = (int) l[2];
-		
-		this.suiCi = cyclical(this.lYear);
-		this.lAnimal = animalsYear(this.lYear);
-
-
-		this.lYearCn = getChinaYear(this.lYear);
-		this.lMonthCn = lunarMonth[this.lMonth];
-		this.lDayCn = getChinaDay(this.lDay);
-
-		this.weekCn = getWeekCn(localDate.getDayOfWeek().getValue());
-		if(l[7] != -1){
-			this.solarTerm = solarTerms[(int)l[7]];
-		}else{
-			this.solarTerm = "";
-		}
-		if(l[6] == 1){
-			this.leapMonthCn = "闰";
-		}else{
-			this.leapMonthCn = "";
-		}
-		this.lDateCn = this.lYearCn + "年" + this.leapMonthCn + this.lMonthCn + "月" + this.lDayCn;
 	}
 	
 	/**
@@ -202,7 +291,7 @@ public final class LunarDate implements Temporal, Serializable{
 	 * @return
 	 */
 	public static LunarDate from(LocalDateTime localDateTime) {
-		return new LunarDate(DateTimeConverterUtil.toLocalDate(localDateTime));
+		return LunarDateCache.get(DateTimeConverterUtil.toLocalDate(localDateTime));
 	}
 
 	/**
@@ -211,7 +300,8 @@ public final class LunarDate implements Temporal, Serializable{
 	 * @return
 	 */
 	public static LunarDate from(LocalDate localDate) {
-		return new LunarDate(localDate);
+		Objects.requireNonNull(localDate, "localDate");
+		return LunarDateCache.get(localDate);
 	}
 	
 	/**
@@ -220,7 +310,7 @@ public final class LunarDate implements Temporal, Serializable{
 	 * @return
 	 */
 	public static LunarDate from(Instant instant) {
-		return new LunarDate(DateTimeConverterUtil.toLocalDate(instant));
+		return LunarDateCache.get(DateTimeConverterUtil.toLocalDate(instant));
 	}	
 
 	/**
@@ -229,26 +319,183 @@ public final class LunarDate implements Temporal, Serializable{
 	 * @return
 	 */
 	public static LunarDate from(Date date) {
-		return new LunarDate(DateTimeConverterUtil.toLocalDate(date));
+		return LunarDateCache.get(DateTimeConverterUtil.toLocalDate(date));
 	}
 	
 	public static LunarDate from(Temporal temporal) {
-		return new LunarDate(DateTimeConverterUtil.toLocalDate(temporal));
+		return LunarDateCache.get(DateTimeConverterUtil.toLocalDate(temporal));
 	}
 
 	/**
-	 * 传回农历year年的总天数
-	 *
-	 * @param year
+	 * 通过农历年月日创建LunarDate
+	 * @param lunarYear 农历年
+	 * @param lunarMonth 农历月 1-12
+	 * @param lunarDay 农历日 1-30
+	 * @param isLeap 是否闰月
+	 * @return
+	 */
+	public static LunarDate of(int lunarYear, int lunarMonth, int lunarDay, boolean isLeap) {
+		return ofEpochDay(lunarToEpochDay(lunarYear, lunarMonth, lunarDay, isLeap));
+	}
+	
+	/**
+	 * 通过农历年月日创建LunarDate，非闰月
+	 * @param lunarYear 农历年
+	 * @param lunarMonth 农历月 1-12
+	 * @param lunarDay 农历日 1-30
+	 * @return
+	 */
+	public static LunarDate of(int lunarYear, int lunarMonth, int lunarDay) {
+		return of(lunarYear, lunarMonth, lunarDay, false);
+	}
+	
+	/**
+	 * 公历区间内每一天的LunarDate，包含起始
+	 * 只在开始时查找一次农历月，之后逐日递推，支持并行流拆分，返回的LunarDate不放入缓存
+	 * @param startInclusive
+	 * @param endInclusive
+	 * @return startInclusive晚于endInclusive时为空
+	 */
+	public static Stream<LunarDate> stream(LocalDate startInclusive, LocalDate endInclusive) {
+		return StreamSupport.stream(spliterator(startInclusive, endInclusive), false);
+	}
+	
+	/**
+	 * 公历区间内每一天的LunarDate，包含起始
+	 * @param startInclusive
+	 * @param endInclusive
+	 * @return startInclusive晚于endInclusive时为空
+	 */
+	public static Spliterator<LunarDate> spliterator(LocalDate startInclusive, LocalDate endInclusive) {
+		Objects.requireNonNull(startInclusive, "startInclusive");
+		Objects.requireNonNull(endInclusive, "endInclusive");
+		long start = startInclusive.toEpochDay();
+		long end = endInclusive.toEpochDay();
+		if (start <= end && (!isSupported(startInclusive) || !isSupported(endInclusive))) {
+			throw new DateTimeException("LunarDate only support " + LocalDate.ofEpochDay(minEpochDay()) + " to "
+					+ LocalDate.ofEpochDay(maxEpochDay()));
+		}
+		return new LunarDateSpliterator(start, end);
+	}
+	
+	/**
+	 * 公历区间内每个农历月的第lunarDay天，包含起始，包括闰月，天数不足的农历月跳过
+	 * 如lunarDay为15时，返回区间内所有农历十五
+	 * 按农历月表直接计算，不逐日遍历
+	 * @param startInclusive
+	 * @param endInclusive
+	 * @param lunarDay 农历日 1-30
+	 * @return
+	 */
+	public static List<LunarDate> getLunarDayList(LocalDate startInclusive, LocalDate endInclusive, int lunarDay) {
+		Objects.requireNonNull(startInclusive, "startInclusive");
+		Objects.requireNonNull(endInclusive, "endInclusive");
+		if (lunarDay < 1 || lunarDay > 30) {
+			throw new DateTimeException("Invalid lunar day " + lunarDay);
+		}
+		List<LunarDate> lunarDateList = new ArrayList<>();
+		long start = Math.max(startInclusive.toEpochDay(), minEpochDay());
+		long end = Math.min(endInclusive.toEpochDay(), maxEpochDay());
+		if (start > end) {
+			return lunarDateList;
+		}
+		for (int i = monthIndexOf(start), last = monthIndexOf(end); i <= last; i++) {
+			int epochDay = lunarMonthStartDays[i] + lunarDay - 1;
+			if (epochDay < lunarMonthStartDays[i + 1] && epochDay >= start && epochDay <= end) {
+				lunarDateList.add(ofEpochDay(epochDay));
+			}
+		}
+		return lunarDateList;
+	}
+	
+	/**
+	 * 通过epochDay创建LunarDate
+	 * @param epochDay
+	 * @return
+	 */
+	private static LunarDate ofEpochDay(long epochDay) {
+		return LunarDateCache.get(LocalDate.ofEpochDay(epochDay));
+	}
+	
+	/**
+	 * 农历月中第lunarDay天，天数不足时取最后一天
+	 * @param monthIndex
+	 * @param lunarDay
 	 * @return
 	 */
-	private static final int lunarYearDays(int year) {
-		int i, sum = 348;
-		for (i = 0x8000; i > 0x8; i >>= 1) {
-			if ((lunarInfo[year - 1900] & i) != 0)
-				sum += 1;
+	private static LunarDate ofMonthIndex(int monthIndex, int lunarDay) {
+		int startDay = lunarMonthStartDays[monthIndex];
+		int day = Math.min(lunarDay, lunarMonthStartDays[monthIndex + 1] - startDay);
+		return ofEpochDay(startDay + day - 1);
+	}
+	
+	/**
+	 * 支持的第一天，公历1900-01-31，农历1900年正月初一
+	 * @return
+	 */
+	public static LocalDate minSupportedDate() {
+		return LocalDate.ofEpochDay(minEpochDay());
+	}
+	
+	/**
+	 * 支持的最后一天，公历2101-01-28，农历2100年腊月廿九
+	 * @return
+	 */
+	public static LocalDate maxSupportedDate() {
+		return LocalDate.ofEpochDay(maxEpochDay());
+	}
+	
+	/**
+	 * 公历日期是否在农历数据支持范围内
+	 * @param localDate
+	 * @return
+	 */
+	public static boolean isSupported(LocalDate localDate) {
+		Objects.requireNonNull(localDate, "localDate");
+		long epochDay = localDate.toEpochDay();
+		return epochDay >= minEpochDay() && epochDay <= maxEpochDay();
+	}
+	
+	/**
+	 * 农历年月在lunarMonthStartDays中的位置
+	 * @param lunarYear
+	 * @param lunarMonth
+	 * @param isLeap
+	 * @return
+	 */
+	private static int lunarMonthIndex(int lunarYear, int lunarMonth, boolean isLeap) {
+		if (lunarYear < MIN_YEAR || lunarYear > MAX_YEAR) {
+			throw new DateTimeException("LunarDate only support lunar year " + MIN_YEAR + " to " + MAX_YEAR);
+		}
+		if (lunarMonth < 1 || lunarMonth > 12) {
+			throw new DateTimeException("Invalid lunar month " + lunarMonth);
+		}
+		int leap = leapMonth(lunarYear);
+		if (isLeap && leap != lunarMonth) {
+			throw new DateTimeException("Lunar year " + lunarYear + " has no leap month " + lunarMonth);
+		}
+		int index = lunarYearMonthIndex[lunarYear - MIN_YEAR] + lunarMonth - 1;
+		if (leap != 0 && (lunarMonth > leap || isLeap)) {
+			index++;
+		}
+		return index;
+	}
+	
+	/**
+	 * 农历年月日转换为公历epochDay
+	 * @param lunarYear
+	 * @param lunarMonth
+	 * @param lunarDay
+	 * @param isLeap
+	 * @return
+	 */
+	private static long lunarToEpochDay(int lunarYear, int lunarMonth, int lunarDay, boolean isLeap) {
+		int index = lunarMonthIndex(lunarYear, lunarMonth, isLeap);
+		int startDay = lunarMonthStartDays[index];
+		if (lunarDay < 1 || lunarDay > lunarMonthStartDays[index + 1] - startDay) {
+			throw new DateTimeException("Invalid lunar day " + lunarDay + " of " + lunarYear + "-" + lunarMonth);
 		}
-		return (sum + leapMonthDays(year));
+		return startDay + lunarDay - 1;
 	}
 
 	/**
@@ -259,7 +506,7 @@ public final class LunarDate implements Temporal, Serializable{
 	 */
 	private static final int leapMonthDays(int year) {
 		if (leapMonth(year) != 0) {
-			if ((lunarInfo[year - 1900] & 0x10000) != 0)
+			if ((lunarInfo[year - MIN_YEAR] & 0x10000) != 0)
 				return 30;
 			else
 				return 29;
@@ -274,7 +521,7 @@ public final class LunarDate implements Temporal, Serializable{
 	 * @return
 	 */
 	private static final int leapMonth(int year) {
-		return (int) (lunarInfo[year - 1900] & 0xf);
+		return lunarInfo[year - MIN_YEAR] & 0xf;
 	}
 
 	/**
@@ -285,7 +532,7 @@ public final class LunarDate implements Temporal, Serializable{
 	 * @return
 	 */
 	private static final int monthDays(int year, int month) {
-		if ((lunarInfo[year - 1900] & (0x10000 >> month)) == 0)
+		if ((lunarInfo[year - MIN_YEAR] & (0x10000 >> month)) == 0)
 			return 29;
 		else
 			return 30;
@@ -308,7 +555,7 @@ public final class LunarDate implements Temporal, Serializable{
 	 * @return
 	 */
 	private static final String cyclicalm(int num) {
-		return (tianGan[num % 10] + diZhi[num % 12]);
+		return ganZhi[Math.floorMod(num, 60)];
 	}
 
 	/**
@@ -322,19 +569,122 @@ public final class LunarDate implements Temporal, Serializable{
 		return (cyclicalm(num));
 	}
 	
+	/**
+	 * 农历月干支，按农历月计算，同calElement的monCyl，闰月同本月
+	 * @param lYear 农历年
+	 * @param lMonth 农历月
+	 * @return
+	 */
+	public static final String cyclicalMonth(int lYear, int lMonth) {
+		return cyclicalm((lYear - MIN_YEAR) * 12 + lMonth + 13);
+	}
+	
+	/**
+	 * 日干支，同calElement的dayCyl
+	 * @param localDate 公历日期
+	 * @return
+	 */
+	public static final String cyclicalDay(LocalDate localDate) {
+		Objects.requireNonNull(localDate, "localDate");
+		return cyclicalm((int) Math.floorMod(localDate.toEpochDay() - BASE_EPOCH_DAY + 40, 60L));
+	}
+	
 	/**
 	 * 计算某年第n个节气的天
+	 * 农历数据范围内直接查表，范围外使用近似公式计算
 	 * @param year 公历年
 	 * @param n
 	 * @return
 	 */
 	public static final int solarTerm(int year, int n){
+		if (year >= MIN_YEAR && year <= MAX_YEAR) {
+			return solarTermDays[(year - MIN_YEAR) * 24 + n];
+		}
 		LocalDateTime startLocalDateTime = LocalDateTime.of(1900,1,6,2,5);
 		long millis = (long) ((31556925974.7*(year-1900) + solarTermInfo[n]*60000));
 		LocalDateTime tempLocalDateTime = DateTimeCalculatorUtil.plusMillis(startLocalDateTime, millis);
 		return tempLocalDateTime.getDayOfMonth();
 	}
 
+	/**
+	 * 获取公历日期的二十四节气序号，对应solarTerms，不是节气时返回-1
+	 * 每个公历月有两个节气，第month月为第(month-1)*2和(month-1)*2+1个节气
+	 * 农历数据范围内直接查表，不创建对象
+	 * @param year 公历年
+	 * @param month 公历月
+	 * @param day 公历日
+	 * @return
+	 */
+	public static final int solarTermIndex(int year, int month, int day) {
+		ChronoField.MONTH_OF_YEAR.checkValidValue(month);
+		int n = (month - 1) * 2;
+		if (day == solarTerm(year, n)) {
+			return n;
+		}
+		if (day == solarTerm(year, n + 1)) {
+			return n + 1;
+		}
+		return -1;
+	}
+	
+	/**
+	 * 获取公历日期的二十四节气序号，对应solarTerms，不是节气时返回-1
+	 * @param localDate
+	 * @return
+	 */
+	public static final int solarTermIndex(LocalDate localDate) {
+		Objects.requireNonNull(localDate, "localDate");
+		return solarTermIndex(localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth());
+	}
+	
+	/**
+	 * 支持的第一天，农历起始年正月初一的epochDay
+	 * @return
+	 */
+	static int minEpochDay() {
+		return lunarMonthStartDays[0];
+	}
+	
+	/**
+	 * 支持的最后一天的epochDay
+	 * @return
+	 */
+	static int maxEpochDay() {
+		return lunarMonthStartDays[lunarMonthStartDays.length - 1] - 1;
+	}
+
+	/**
+	 * 计算公历年月日的epochDay，不创建LocalDate对象
+	 * @param year
+	 * @param month
+	 * @param day
+	 * @return
+	 */
+	private static long toEpochDay(int year, int month, int day) {
+		ChronoField.YEAR.checkValidValue(year);
+		ChronoField.MONTH_OF_YEAR.checkValidValue(month);
+		ChronoField.DAY_OF_MONTH.checkValidValue(day);
+		if (day > Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year))) {
+			throw new DateTimeException("Invalid date '" + Month.of(month).name() + " " + day + "'");
+		}
+		long y = year;
+		long total = 365 * y;
+		if (y >= 0) {
+			total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+		} else {
+			total -= y / -4 - y / -100 + y / -400;
+		}
+		total += ((367 * month - 362) / 12);
+		total += day - 1;
+		if (month > 2) {
+			total--;
+			if (!IsoChronology.INSTANCE.isLeapYear(year)) {
+				total--;
+			}
+		}
+		return total - DAYS_0000_TO_1970;
+	}
+
 	/**
 	 * 传出year年month月day日对应的农历.year0 .month1 .day2 .yearCyl3 .monCyl4 .dayCyl5
 	 * .isLeap6.solarTermIndex7
@@ -346,71 +696,291 @@ public final class LunarDate implements Temporal, Serializable{
 	 */
 	public static final long[] calElement(int year, int month, int day) {
 		long[] nongDate = new long[8];
-		int i = 0, temp = 0, leap = 0;
-		LocalDateTime baseDate = LocalDate.of(1900, 1, 31).atStartOfDay();
-		LocalDateTime objDate = LocalDate.of(year, month, day).atStartOfDay();
-		long offset = DateTimeCalculatorUtil.betweenTotalDays(baseDate, objDate);		
-		nongDate[5] = offset + 40;
-		nongDate[4] = 14;
-		for (i = 1900; i < 2050 && offset > 0; i++) {
-			temp = lunarYearDays(i);
-			offset -= temp;
-			nongDate[4] += 12;
-		}
-		if (offset < 0) {
-			offset += temp;
-			i--;
-			nongDate[4] -= 12;
-		}
-		nongDate[0] = i;
-		nongDate[3] = i - 1864;
-		leap = leapMonth(i); // 闰哪个月
-		nongDate[6] = 0;
-		for (i = 1; i < 13 && offset > 0; i++) {
-			// 闰月
-			if (leap > 0 && i == (leap + 1) && nongDate[6] == 0) {
-				--i;
-				nongDate[6] = 1;
-				temp = leapMonthDays((int) nongDate[0]);
-			} else {
-				temp = monthDays((int) nongDate[0], i);
-			}
-			// 解除闰月
-			if (nongDate[6] == 1 && i == (leap + 1))
-				nongDate[6] = 0;
-			offset -= temp;
-			if (nongDate[6] == 0)
-				nongDate[4]++;
-		}
-		if (offset == 0 && leap > 0 && i == leap + 1) {
-			if (nongDate[6] == 1) {
-				nongDate[6] = 0;
-			} else {
-				nongDate[6] = 1;
-				--i;
-				--nongDate[4];
+		long epochDay = toEpochDay(year, month, day);
+		int value = lunarValue(epochDay, year, month, day);
+		int lYear = unpackYear(value);
+		int lMonth = unpackMonth(value);
+		nongDate[0] = lYear;
+		nongDate[1] = lMonth;
+		nongDate[2] = unpackDay(value);
+		nongDate[3] = lYear - 1864;
+		nongDate[4] = (lYear - MIN_YEAR) * 12 + lMonth + 13;
+		nongDate[5] = epochDay - BASE_EPOCH_DAY + 40;
+		nongDate[6] = unpackLeap(value) ? 1 : 0;
+		nongDate[7] = unpackSolarTermIndex(value);
+		return nongDate;
+	}
+	
+	/**
+	 * 计算农历数值信息，不创建对象
+	 * @param epochDay 公历日期的epochDay
+	 * @param year 公历年
+	 * @param month 公历月
+	 * @param day 公历日
+	 * @return 格式见pack方法
+	 */
+	private static int lunarValue(long epochDay, int year, int month, int day) {
+		if (epochDay < minEpochDay() || epochDay > maxEpochDay()) {
+			throw new DateTimeException("LunarDate only support " + LocalDate.ofEpochDay(minEpochDay()) + " to "
+					+ LocalDate.ofEpochDay(maxEpochDay()));
+		}
+		int monthIndex = monthIndexOf(epochDay);
+		int lDay = (int) (epochDay - lunarMonthStartDays[monthIndex]) + 1;
+		return monthValue(monthIndex, lDay, solarTermIndex(year, month, day));
+	}
+	
+	/**
+	 * 二分查找epochDay所在农历月的序号，需要在支持范围内
+	 * @param epochDay
+	 * @return
+	 */
+	static int monthIndexOf(long epochDay) {
+		int monthIndex = Arrays.binarySearch(lunarMonthStartDays, (int) epochDay);
+		if (monthIndex < 0) {
+			monthIndex = -monthIndex - 2;
+		}
+		return monthIndex;
+	}
+	
+	/**
+	 * 农历月第一天的epochDay，monthIndex为最后一个月加1时返回支持的最后一天加1
+	 * @param monthIndex
+	 * @return
+	 */
+	static int monthStartDay(int monthIndex) {
+		return lunarMonthStartDays[monthIndex];
+	}
+	
+	/**
+	 * 农历月中某一天的农历数值信息
+	 * @param monthIndex 农历月序号
+	 * @param lDay 农历日
+	 * @param solarTermIndex 二十四节气序号，-1表示不是节气
+	 * @return
+	 */
+	static int monthValue(int monthIndex, int lDay, int solarTermIndex) {
+		int info = lunarMonthInfo[monthIndex];
+		return pack((info >>> 5) + MIN_YEAR, (info >>> 1) & 0xf, lDay, (info & 1) == 1, solarTermIndex);
+	}
+	
+	/**
+	 * 打包农历数值信息为int
+	 * 16-31位农历年，12-15位农历月，7-11位农历日，6位是否闰月，0-5位二十四节气序号加1（0表示不是节气）
+	 * @param lYear
+	 * @param lMonth
+	 * @param lDay
+	 * @param isLeap
+	 * @param solarTermIndex 二十四节气序号，-1表示不是节气
+	 * @return
+	 */
+	private static int pack(int lYear, int lMonth, int lDay, boolean isLeap, int solarTermIndex) {
+		return lYear << 16 | lMonth << 12 | lDay << 7 | (isLeap ? 1 << 6 : 0) | (solarTermIndex + 1);
+	}
+	
+	/**
+	 * 农历数值信息中的农历年，用于toLunarValues的结果
+	 * @param value 农历数值信息
+	 * @return
+	 */
+	public static int unpackYear(int value) {
+		return value >>> 16;
+	}
+	
+	/**
+	 * 农历数值信息中的农历月
+	 * @param value 农历数值信息
+	 * @return
+	 */
+	public static int unpackMonth(int value) {
+		return (value >>> 12) & 0xf;
+	}
+	
+	/**
+	 * 农历数值信息中的农历日
+	 * @param value 农历数值信息
+	 * @return
+	 */
+	public static int unpackDay(int value) {
+		return (value >>> 7) & 0x1f;
+	}
+	
+	/**
+	 * 农历数值信息中的是否闰月
+	 * @param value 农历数值信息
+	 * @return
+	 */
+	public static boolean unpackLeap(int value) {
+		return (value & (1 << 6)) != 0;
+	}
+	
+	/**
+	 * 农历数值信息中的二十四节气序号，不是节气时返回-1
+	 * @param value 农历数值信息
+	 * @return
+	 */
+	public static int unpackSolarTermIndex(int value) {
+		return (value & 0x3f) - 1;
+	}
+	
+	/**
+	 * 批量转换epochDay为农历数值信息，不创建对象
+	 * 结果写入lunarValues相同下标，格式为：16-31位农历年，12-15位农历月，7-11位农历日，6位是否闰月，0-5位二十四节气序号加1
+	 * 使用unpackYear、unpackMonth、unpackDay、unpackLeap、unpackSolarTermIndex解析，超出支持范围的日期结果为0
+	 * @param epochDays 公历日期的epochDay
+	 * @param lunarValues 结果数组，长度不能小于epochDays
+	 */
+	public static void toLunarValues(int[] epochDays, int[] lunarValues) {
+		toLunarValues(epochDays, lunarValues, false);
+	}
+	
+	/**
+	 * 批量转换epochDay为农历数值信息，不创建对象
+	 * @param epochDays 公历日期的epochDay
+	 * @param lunarValues 结果数组，长度不能小于epochDays
+	 * @param parallel 是否使用ForkJoinPool.commonPool()分段并行转换
+	 */
+	public static void toLunarValues(int[] epochDays, int[] lunarValues, boolean parallel) {
+		Objects.requireNonNull(epochDays, "epochDays");
+		checkLunarValues(lunarValues, epochDays.length);
+		if (parallel) {
+			ForkJoinPool.commonPool().invoke(new BulkTask(epochDays, null, null, lunarValues, 0, epochDays.length));
+		} else {
+			toLunarValues(epochDays, lunarValues, 0, epochDays.length);
+		}
+	}
+	
+	/**
+	 * 批量转换时间戳为农历数值信息，不创建对象
+	 * @param epochMillis 时间戳，毫秒
+	 * @param zoneId 时区
+	 * @param lunarValues 结果数组，长度不能小于epochMillis
+	 */
+	public static void toLunarValues(long[] epochMillis, ZoneId zoneId, int[] lunarValues) {
+		toLunarValues(epochMillis, zoneId, lunarValues, false);
+	}
+	
+	/**
+	 * 批量转换时间戳为农历数值信息，不创建对象，时区偏移量只在跨越夏令时等变化时重新计算
+	 * @param epochMillis 时间戳，毫秒
+	 * @param zoneId 时区
+	 * @param lunarValues 结果数组，长度不能小于epochMillis
+	 * @param parallel 是否使用ForkJoinPool.commonPool()分段并行转换
+	 */
+	public static void toLunarValues(long[] epochMillis, ZoneId zoneId, int[] lunarValues, boolean parallel) {
+		Objects.requireNonNull(epochMillis, "epochMillis");
+		Objects.requireNonNull(zoneId, "zoneId");
+		checkLunarValues(lunarValues, epochMillis.length);
+		if (parallel) {
+			ForkJoinPool.commonPool().invoke(new BulkTask(null, epochMillis, zoneId.getRules(), lunarValues, 0, epochMillis.length));
+		} else {
+			toLunarValues(epochMillis, zoneId.getRules(), lunarValues, 0, epochMillis.length);
+		}
+	}
+	
+	private static void checkLunarValues(int[] lunarValues, int length) {
+		Objects.requireNonNull(lunarValues, "lunarValues");
+		if (lunarValues.length < length) {
+			throw new IllegalArgumentException("lunarValues length " + lunarValues.length + " < " + length);
+		}
+	}
+	
+	/**
+	 * 计算epochDay的农历数值信息，超出支持范围时返回0，不抛出异常
+	 * @param epochDay
+	 * @return
+	 */
+	private static int lunarValueOrZero(long epochDay) {
+		if (epochDay < lunarMonthStartDays[0] || epochDay >= lunarMonthStartDays[lunarMonthStartDays.length - 1]) {
+			return 0;
+		}
+		// 公历年月日，算法同LocalDate.ofEpochDay
+		long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+		long yearEst = (400 * zeroDay + 591) / 146097;
+		long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+		if (doyEst < 0) {
+			yearEst--;
+			doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+		}
+		int marchDoy0 = (int) doyEst;
+		int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+		int month = (marchMonth0 + 2) % 12 + 1;
+		int day = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+		int year = (int) (yearEst + marchMonth0 / 10);
+		return lunarValue(epochDay, year, month, day);
+	}
+	
+	/**
+	 * 顺序转换epochDays[from, to)
+	 */
+	private static void toLunarValues(int[] epochDays, int[] lunarValues, int from, int to) {
+		for (int i = from; i < to; i++) {
+			lunarValues[i] = lunarValueOrZero(epochDays[i]);
+		}
+	}
+	
+	/**
+	 * 顺序转换epochMillis[from, to)
+	 */
+	private static void toLunarValues(long[] epochMillis, ZoneRules rules, int[] lunarValues, int from, int to) {
+		// 当前偏移量的有效区间[offsetStart, offsetEnd)，单位秒
+		long offsetStart = 0;
+		long offsetEnd = 0;
+		int offsetSeconds = 0;
+		boolean fixed = rules.isFixedOffset();
+		if (fixed) {
+			offsetSeconds = rules.getOffset(Instant.EPOCH).getTotalSeconds();
+		}
+		for (int i = from; i < to; i++) {
+			long epochSecond = Math.floorDiv(epochMillis[i], 1000L);
+			if (!fixed && (epochSecond < offsetStart || epochSecond >= offsetEnd)) {
+				Instant instant = Instant.ofEpochSecond(epochSecond);
+				offsetSeconds = rules.getOffset(instant).getTotalSeconds();
+				ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+				ZoneOffsetTransition next = rules.nextTransition(instant);
+				offsetStart = previous == null ? Long.MIN_VALUE : previous.toEpochSecond();
+				offsetEnd = next == null ? Long.MAX_VALUE : next.toEpochSecond();
 			}
+			lunarValues[i] = lunarValueOrZero(Math.floorDiv(epochSecond + offsetSeconds, 86400L));
 		}
-		if (offset < 0) {
-			offset += temp;
-			--i;
-			--nongDate[4];
+	}
+	
+	/**
+	 * 批量并行转换任务，只在parallel为true时创建，超过阈值时对半拆分
+	 */
+	private static final class BulkTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private static final int THRESHOLD = 1 << 13;
+		
+		private final int[] epochDays;
+		private final long[] epochMillis;
+		private final transient ZoneRules rules;
+		private final int[] lunarValues;
+		private final int from;
+		private final int to;
+		
+		private BulkTask(int[] epochDays, long[] epochMillis, ZoneRules rules, int[] lunarValues, int from, int to) {
+			this.epochDays = epochDays;
+			this.epochMillis = epochMillis;
+			this.rules = rules;
+			this.lunarValues = lunarValues;
+			this.from = from;
+			this.to = to;
 		}
-		nongDate[1] = i;
-		nongDate[2] = offset + 1;
 		
-		//二十四节气
-		int solarTermIndex = -1;
-		int tempMonth = month - 1;
-		int firstSolarTermOfMonth = solarTerm(year, tempMonth*2);
-		int secondSolarTermOfMonth = solarTerm(year, tempMonth*2+1);
-		if(day == firstSolarTermOfMonth){
-			solarTermIndex = tempMonth*2;
-		}else if(day == secondSolarTermOfMonth){
-			solarTermIndex = tempMonth*2 + 1;
-		}
-		nongDate[7] = solarTermIndex;
-		return nongDate;
+		@Override
+		protected void compute() {
+			if (to - from > THRESHOLD) {
+				int mid = (from + to) >>> 1;
+				invokeAll(new BulkTask(epochDays, epochMillis, rules, lunarValues, from, mid),
+						new BulkTask(epochDays, epochMillis, rules, lunarValues, mid, to));
+			} else if (epochDays != null) {
+				toLunarValues(epochDays, lunarValues, from, to);
+			} else {
+				toLunarValues(epochMillis, rules, lunarValues, from, to);
+			}
+		}
 	}
 
 	/**
@@ -525,66 +1095,221 @@ public final class LunarDate implements Temporal, Serializable{
 	 */
 	public static LunarDate now() {
 		LocalDate today = LocalDate.now();
-		return new LunarDate(today);
+		return LunarDateCache.get(today);
 	}
 
 	public LocalDate getLocalDate() {
 		return localDate;
 	}
+	
+	/**
+	 * 转换为公历日期
+	 * @return
+	 */
+	public LocalDate toLocalDate() {
+		return localDate;
+	}
 
 	public String getlDateCn() {
-		return lDateCn;
+		if (lunarValue == 0) {
+			return null;
+		}
+		String dateCn = lDateCn;
+		if (dateCn == null) {
+			dateCn = getlYearCn() + "年" + getLeapMonthCn() + getlMonthCn() + "月" + getlDayCn();
+			lDateCn = dateCn;
+		}
+		return dateCn;
 	}
 
 	public String getSuiCi() {
-		return suiCi;
+		return lunarValue == 0 ? null : cyclical(getlYear());
+	}
+
+	/**
+	 * 农历月干支，如：戊寅
+	 * @return
+	 */
+	public String getMonthGanZhi() {
+		return lunarValue == 0 ? null : cyclicalMonth(getlYear(), getlMonth());
+	}
+	
+	/**
+	 * 日干支，如：丁卯
+	 * @return
+	 */
+	public String getDayGanZhi() {
+		return lunarValue == 0 ? null : cyclicalDay(localDate);
 	}
 
 	public String getlAnimal() {
-		return lAnimal;
+		return lunarValue == 0 ? null : animalsYear(getlYear());
 	}
 
 	public int getlYear() {
-		return lYear;
+		return unpackYear(lunarValue);
 	}
 
 	public int getlMonth() {
-		return lMonth;
+		return unpackMonth(lunarValue);
 	}
 
 	public int getlDay() {
-		return lDay;
+		return unpackDay(lunarValue);
+	}
+
+	/**
+	 * 当前日期月份是否为闰月
+	 * @return
+	 */
+	public boolean isLeapMonth() {
+		return unpackLeap(lunarValue);
+	}
+	
+	/**
+	 * 农历月的天数，29或30，超出支持范围时返回0
+	 * @return
+	 */
+	public int lengthOfLunarMonth() {
+		if (lunarValue == 0) {
+			return 0;
+		}
+		int monthIndex = monthIndexOf(localDate.toEpochDay());
+		return lunarMonthStartDays[monthIndex + 1] - lunarMonthStartDays[monthIndex];
 	}
 
 	public String getlYearCn() {
-		return lYearCn;
+		return lunarValue == 0 ? null : getChinaYear(getlYear());
 	}
 
 	public String getlMonthCn() {
-		return lMonthCn;
+		return lunarValue == 0 ? null : lunarMonth[getlMonth()];
 	}
 
 	public String getlDayCn() {
-		return lDayCn;
+		return lunarValue == 0 ? null : chinaDays[getlDay()];
 	}
 
 	public String getWeekCn() {
-		return weekCn;
+		return lunarValue == 0 ? null : getWeekCn(localDate.getDayOfWeek().getValue());
+	}
+	
+	/**
+	 * 二十四节气序号，对应solarTerms，不是节气时为-1
+	 * @return
+	 */
+	public int getSolarTermIndex() {
+		return unpackSolarTermIndex(lunarValue);
 	}
 	
 	public String getSolarTerm() {
-		return solarTerm;
+		if (lunarValue == 0) {
+			return null;
+		}
+		int solarTermIndex = getSolarTermIndex();
+		return solarTermIndex == -1 ? "" : solarTerms[solarTermIndex];
 	}
 
 	public String getLeapMonthCn() {
-		return leapMonthCn;
+		if (lunarValue == 0) {
+			return null;
+		}
+		return isLeapMonth() ? "闰" : "";
+	}
+	
+	/**
+	 * 序列化时使用LunarDateSer代理，只保存epochDay
+	 * @return
+	 */
+	private Object writeReplace() {
+		return new LunarDateSer(localDate.toEpochDay());
+	}
+
+	/**
+	 * 不支持直接反序列化
+	 * @param in
+	 * @throws InvalidObjectException
+	 */
+	private void readObject(ObjectInputStream in) throws InvalidObjectException {
+		throw new InvalidObjectException("Deserialization via serialization delegate");
+	}
+	
+	/**
+	 * 写入ByteBuffer，4个字节，为公历日期的epochDay
+	 * @param buffer
+	 */
+	public void writeTo(ByteBuffer buffer) {
+		buffer.putInt(Math.toIntExact(localDate.toEpochDay()));
+	}
+	
+	/**
+	 * 从ByteBuffer读取writeTo写入的LunarDate
+	 * @param buffer
+	 * @return
+	 */
+	public static LunarDate readFrom(ByteBuffer buffer) {
+		return from(LocalDate.ofEpochDay(buffer.getInt()));
+	}
+	
+	/**
+	 * 批量编码，格式为：4个字节数量，之后每个LunarDate 4个字节epochDay
+	 * @param lunarDateList
+	 * @return 可以直接读取的ByteBuffer
+	 */
+	public static ByteBuffer encode(List<LunarDate> lunarDateList) {
+		Objects.requireNonNull(lunarDateList, "lunarDateList");
+		ByteBuffer buffer = ByteBuffer.allocate(4 + lunarDateList.size() * 4);
+		buffer.putInt(lunarDateList.size());
+		for (LunarDate lunarDate : lunarDateList) {
+			lunarDate.writeTo(buffer);
+		}
+		buffer.flip();
+		return buffer;
+	}
+	
+	/**
+	 * 批量解码encode的结果
+	 * @param buffer
+	 * @return
+	 */
+	public static List<LunarDate> decode(ByteBuffer buffer) {
+		Objects.requireNonNull(buffer, "buffer");
+		int size = buffer.getInt();
+		if (size < 0 || size > buffer.remaining() / 4) {
+			throw new IllegalArgumentException("Invalid LunarDate count " + size);
+		}
+		List<LunarDate> lunarDateList = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			lunarDateList.add(readFrom(buffer));
+		}
+		return lunarDateList;
+	}
+	
+	/**
+	 * 公历日期相同即相等
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj instanceof LunarDate) {
+			return localDate.equals(((LunarDate) obj).localDate);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return localDate.hashCode();
 	}
 	
 	@Override
 	public String toString() {
-		return "LunarDate [localDate=" + localDate + ",lDateCn=" + lDateCn + ", suiCi=" + suiCi + ", lAnimal=" + lAnimal + ", lYear=" + lYear
-				+ ", lMonth=" + lMonth + ", lDay=" + lDay + ", lYearCn=" + lYearCn + ", lMonthCn=" + lMonthCn
-				+ ", lDayCn=" + lDayCn + ", weekCn=" + weekCn + ", solarTerm=" + solarTerm + ", leapMonthCn=" + leapMonthCn + "]";
+		return "LunarDate [localDate=" + localDate + ",lDateCn=" + getlDateCn() + ", suiCi=" + getSuiCi() + ", lAnimal="
+				+ getlAnimal() + ", lYear=" + getlYear() + ", lMonth=" + getlMonth() + ", lDay=" + getlDay()
+				+ ", lYearCn=" + getlYearCn() + ", lMonthCn=" + getlMonthCn() + ", lDayCn=" + getlDayCn() + ", weekCn="
+				+ getWeekCn() + ", solarTerm=" + getSolarTerm() + ", leapMonthCn=" + getLeapMonthCn() + "]";
 	}
 
 	/**
@@ -593,10 +1318,11 @@ public final class LunarDate implements Temporal, Serializable{
 	 */
 	public String formatLongCnWithChineseHoliday(){
 		String chineseHoliday = Holiday.getChineseHoliday(localDate);
-		if(solarTerm != ""){
+		String solarTerm = getSolarTerm();
+		if(StringUtil.isNotEmpty(solarTerm)){
 			chineseHoliday = chineseHoliday + " " + solarTerm;
 		}
-		return suiCi + lAnimal + "年 " + lDateCn + " " + weekCn + " " + chineseHoliday;
+		return getSuiCi() + getlAnimal() + "年 " + getlDateCn() + " " + getWeekCn() + " " + chineseHoliday;
 	}	
 	
 	/**
@@ -604,7 +1330,7 @@ public final class LunarDate implements Temporal, Serializable{
 	 * @return
 	 */
 	public String formatLongCn(){
-		return suiCi + lAnimal + "年 " + lDateCn + " " + weekCn;
+		return getSuiCi() + getlAnimal() + "年 " + getlDateCn() + " " + getWeekCn();
 	}
 	
 	/**
@@ -612,7 +1338,10 @@ public final class LunarDate implements Temporal, Serializable{
 	 * @return
 	 */
 	public String formatShort(){
-		return String.format("%02d", lMonth) + String.format("%02d", lDay);
+		int lMonth = getlMonth();
+		int lDay = getlDay();
+		return new String(new char[] { (char) ('0' + lMonth / 10), (char) ('0' + lMonth % 10), (char) ('0' + lDay / 10),
+				(char) ('0' + lDay % 10) });
 	}
 
 	@Override
@@ -630,14 +1359,122 @@ public final class LunarDate implements Temporal, Serializable{
 		return localDate.isSupported(unit);
 	}
 
+	/**
+	 * 按公历字段设置，返回LunarDate
+	 */
 	@Override
-	public Temporal with(TemporalField field, long newValue) {
-		return localDate.with(field, newValue);
+	public LunarDate with(TemporalField field, long newValue) {
+		return from(localDate.with(field, newValue));
 	}
 
+	/**
+	 * 按公历增加时间，返回LunarDate，与getLong、with和until一致，可以使用TemporalAdjusters和Period
+	 * 按农历月和农历年计算使用plusLunarMonths和plusLunarYears
+	 */
 	@Override
-	public Temporal plus(long amountToAdd, TemporalUnit unit) {
-		return localDate.plus(amountToAdd, unit);
+	public LunarDate plus(long amountToAdd, TemporalUnit unit) {
+		if (unit == ChronoUnit.DAYS) {
+			return plusDays(amountToAdd);
+		}
+		return from(localDate.plus(amountToAdd, unit));
+	}
+	
+	/**
+	 * 减少时间，返回LunarDate
+	 */
+	@Override
+	public LunarDate minus(long amountToSubtract, TemporalUnit unit) {
+		return amountToSubtract == Long.MIN_VALUE ? plus(Long.MAX_VALUE, unit).plus(1, unit)
+				: plus(-amountToSubtract, unit);
+	}
+	
+	/**
+	 * 增加天数
+	 * @param days
+	 * @return
+	 */
+	public LunarDate plusDays(long days) {
+		if (days == 0) {
+			return this;
+		}
+		return ofEpochDay(Math.addExact(localDate.toEpochDay(), days));
+	}
+	
+	/**
+	 * 增加农历月数，按实际农历月依次计算，闰月也算一个月，如2020年四月初一加1个月为2020年闰四月初一
+	 * 目标月天数不足时取最后一天，如三十加1个月，下个月是小月时为廿九
+	 * @param months
+	 * @return
+	 */
+	public LunarDate plusLunarMonths(long months) {
+		if (months == 0) {
+			return this;
+		}
+		checkLunarValue();
+		int monthIndex = monthIndexOf(localDate.toEpochDay());
+		long target = monthIndex + months;
+		if (target < 0 || target >= lunarMonthInfo.length) {
+			throw new DateTimeException("LunarDate only support lunar year " + MIN_YEAR + " to " + MAX_YEAR);
+		}
+		return ofMonthIndex((int) target, getlDay());
+	}
+	
+	/**
+	 * 增加农历年数，农历月日不变
+	 * 闰月在目标年没有相同闰月时使用同月份的非闰月，目标月天数不足时取最后一天
+	 * @param years
+	 * @return
+	 */
+	public LunarDate plusLunarYears(long years) {
+		if (years == 0) {
+			return this;
+		}
+		checkLunarValue();
+		long target = getlYear() + years;
+		if (target < MIN_YEAR || target > MAX_YEAR) {
+			throw new DateTimeException("LunarDate only support lunar year " + MIN_YEAR + " to " + MAX_YEAR);
+		}
+		int lYear = (int) target;
+		int lMonth = getlMonth();
+		boolean isLeap = isLeapMonth() && leapMonth(lYear) == lMonth;
+		return ofMonthIndex(lunarMonthIndex(lYear, lMonth, isLeap), getlDay());
+	}
+	
+	/**
+	 * 减少天数
+	 * @param days
+	 * @return
+	 */
+	public LunarDate minusDays(long days) {
+		return days == Long.MIN_VALUE ? plusDays(Long.MAX_VALUE).plusDays(1) : plusDays(-days);
+	}
+	
+	/**
+	 * 减少农历月数，见plusLunarMonths
+	 * @param months
+	 * @return
+	 */
+	public LunarDate minusLunarMonths(long months) {
+		return months == Long.MIN_VALUE ? plusLunarMonths(Long.MAX_VALUE).plusLunarMonths(1) : plusLunarMonths(-months);
+	}
+	
+	/**
+	 * 减少农历年数，见plusLunarYears
+	 * @param years
+	 * @return
+	 */
+	public LunarDate minusLunarYears(long years) {
+		return years == Long.MIN_VALUE ? plusLunarYears(Long.MAX_VALUE).plusLunarYears(1) : plusLunarYears(-years);
+	}
+	
+	/**
+	 * 超出支持范围创建的LunarDate不能计算
+	 */
+	private void checkLunarValue() {
+		if (lunarValue == 0) {
+			throw new DateTimeException("LunarDate only support " + LocalDate.ofEpochDay(minEpochDay()) + " to "
+					+ LocalDate.ofEpochDay(maxEpochDay()));
+		}
 	}
 
 	@Override
@@ -0,0 +1,195 @@
+package com.xkzhangsan.time;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LunarDate 缓存
+ * LunarDate 创建后不可变，LunarDate.from* 方法通过本缓存按epochDay共享实例
+ * 1.默认为有界缓存，按epochDay直接映射到固定大小的槽位，冲突时直接覆盖，读写无锁
+ * 2.预加载模式，preload() 创建农历数据范围内所有的LunarDate，之后范围内全部命中
+ * 3.命中率和大小统计，getHitCount() getMissCount() getHitRate() getSize()
+ *
+* @ClassName: LunarDateCache
+* @Description: LunarDateCache
+* @author xkzhangsan
+* @date 2026年10月17日
+ */
+public final class LunarDateCache {
+
+	/**
+	 * 默认容量，约11年
+	 */
+	public static final int DEFAULT_CAPACITY = 1 << 12;
+
+	/**
+	 * 最大容量
+	 */
+	private static final int MAX_CAPACITY = 1 << 20;
+
+	private static volatile Table table = new Table(DEFAULT_CAPACITY, 0, false);
+
+	private static final LongAdder hitCount = new LongAdder();
+
+	private static final LongAdder missCount = new LongAdder();
+
+	private LunarDateCache() {
+	}
+
+	/**
+	 * 从缓存获取LunarDate，不存在时创建并放入缓存
+	 * @param localDate
+	 * @return
+	 */
+	static LunarDate get(LocalDate localDate) {
+		long epochDay = localDate.toEpochDay();
+		Table current = table;
+		int index = current.indexOf(epochDay);
+		if (index >= 0) {
+			LunarDate lunarDate = current.slots.get(index);
+			if (lunarDate != null && lunarDate.getLocalDate().toEpochDay() == epochDay) {
+				hitCount.increment();
+				return lunarDate;
+			}
+		}
+		missCount.increment();
+		LunarDate lunarDate = new LunarDate(localDate);
+		if (index >= 0 && lunarDate.getlYear() != 0) {
+			current.put(index, lunarDate);
+		}
+		return lunarDate;
+	}
+
+	/**
+	 * 预加载农历数据范围内所有的LunarDate，约7.3万个
+	 */
+	public static synchronized void preload() {
+		int start = LunarDate.minEpochDay();
+		int end = LunarDate.maxEpochDay();
+		Table preloaded = new Table(end - start + 1, start, true);
+		for (int epochDay = start; epochDay <= end; epochDay++) {
+			preloaded.put(epochDay - start, new LunarDate(LocalDate.ofEpochDay(epochDay)));
+		}
+		table = preloaded;
+	}
+
+	/**
+	 * 是否为预加载模式
+	 * @return
+	 */
+	public static boolean isPreloaded() {
+		return table.preloaded;
+	}
+
+	/**
+	 * 重新设置缓存容量，退出预加载模式，并清空缓存
+	 * @param capacity 容量，向上取整为2的幂，最大为2的20次方
+	 */
+	public static synchronized void setCapacity(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+		int size = capacity >= MAX_CAPACITY ? MAX_CAPACITY : Integer.highestOneBit(capacity - 1) << 1;
+		table = new Table(Math.max(size, 1), 0, false);
+	}
+
+	/**
+	 * 清空缓存和统计数据，保持当前容量和模式
+	 */
+	public static synchronized void clear() {
+		Table current = table;
+		if (current.preloaded) {
+			preload();
+		} else {
+			table = new Table(current.slots.length(), 0, false);
+		}
+		hitCount.reset();
+		missCount.reset();
+	}
+
+	/**
+	 * 缓存容量
+	 * @return
+	 */
+	public static int getCapacity() {
+		return table.slots.length();
+	}
+
+	/**
+	 * 缓存中的LunarDate数量
+	 * @return
+	 */
+	public static int getSize() {
+		return table.size.get();
+	}
+
+	/**
+	 * 命中次数
+	 * @return
+	 */
+	public static long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * 未命中次数
+	 * @return
+	 */
+	public static long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * 命中率，没有访问时为0
+	 * @return
+	 */
+	public static double getHitRate() {
+		long hit = hitCount.sum();
+		long total = hit + missCount.sum();
+		return total == 0 ? 0 : (double) hit / total;
+	}
+
+	/**
+	 * 缓存槽位
+	 */
+	private static final class Table {
+
+		private final AtomicReferenceArray<LunarDate> slots;
+
+		private final AtomicInteger size = new AtomicInteger();
+
+		/**
+		 * 预加载模式下第一个槽位的epochDay
+		 */
+		private final int start;
+
+		private final boolean preloaded;
+
+		private Table(int capacity, int start, boolean preloaded) {
+			this.slots = new AtomicReferenceArray<>(capacity);
+			this.start = start;
+			this.preloaded = preloaded;
+		}
+
+		/**
+		 * epochDay对应的槽位，预加载模式下超出范围返回-1
+		 * @param epochDay
+		 * @return
+		 */
+		private int indexOf(long epochDay) {
+			if (preloaded) {
+				long index = epochDay - start;
+				return index >= 0 && index < slots.length() ? (int) index : -1;
+			}
+			return (int) epochDay & (slots.length() - 1);
+		}
+
+		private void put(int index, LunarDate lunarDate) {
+			if (slots.getAndSet(index, lunarDate) == null) {
+				size.incrementAndGet();
+			}
+		}
+	}
+}
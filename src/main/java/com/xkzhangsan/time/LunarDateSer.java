@@ -0,0 +1,47 @@
+package com.xkzhangsan.time;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.time.LocalDate;
+
+/**
+ * LunarDate 序列化代理
+ * 只保存公历日期的epochDay，反序列化时通过LunarDate.from重新创建，农历信息从农历数据表计算
+ *
+* @ClassName: LunarDateSer
+* @Description: LunarDateSer
+* @author xkzhangsan
+* @date 2026年10月17日
+ */
+final class LunarDateSer implements Externalizable {
+
+	private static final long serialVersionUID = -4150930437473128823L;
+
+	private long epochDay;
+
+	/**
+	 * Externalizable 需要public无参构造
+	 */
+	public LunarDateSer() {
+	}
+
+	LunarDateSer(long epochDay) {
+		this.epochDay = epochDay;
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		out.writeLong(epochDay);
+	}
+
+	@Override
+	public void readExternal(ObjectInput in) throws IOException {
+		epochDay = in.readLong();
+	}
+
+	private Object readResolve() {
+		return LunarDate.from(LocalDate.ofEpochDay(epochDay));
+	}
+}
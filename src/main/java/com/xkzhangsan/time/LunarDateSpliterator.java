@@ -0,0 +1,154 @@
+package com.xkzhangsan.time;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.chrono.IsoChronology;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * 公历区间内逐日生成LunarDate
+ * 开始时二分查找一次农历月，之后逐日递推农历日、农历月（包括闰月）、农历年，以及公历年月日和当月节气
+ * trySplit按剩余天数对半拆分，拆出的部分重新定位
+ *
+* @ClassName: LunarDateSpliterator
+* @Description: LunarDateSpliterator
+* @author xkzhangsan
+* @date 2026年10月17日
+ */
+final class LunarDateSpliterator implements Spliterator<LunarDate> {
+
+	/**
+	 * 剩余天数少于该值时不再拆分
+	 */
+	private static final int MIN_SPLIT_SIZE = 64;
+
+	/**
+	 * 下一个要生成的日期
+	 */
+	private long epochDay;
+
+	/**
+	 * 最后一个日期，包含
+	 */
+	private final long end;
+
+	/**
+	 * 农历月序号，农历日，下个农历月第一天
+	 */
+	private int monthIndex;
+	private int lDay;
+	private int nextMonthStart;
+
+	/**
+	 * 公历年月日，当月天数，当月两个节气的日
+	 */
+	private int year;
+	private int month;
+	private int day;
+	private int monthLength;
+	private int firstTermDay;
+	private int secondTermDay;
+
+	LunarDateSpliterator(long start, long end) {
+		this.end = end;
+		locate(start);
+	}
+
+	/**
+	 * 定位到指定日期
+	 * @param start
+	 */
+	private void locate(long start) {
+		this.epochDay = start;
+		if (start > end) {
+			return;
+		}
+		monthIndex = LunarDate.monthIndexOf(start);
+		lDay = (int) (start - LunarDate.monthStartDay(monthIndex)) + 1;
+		nextMonthStart = LunarDate.monthStartDay(monthIndex + 1);
+		LocalDate localDate = LocalDate.ofEpochDay(start);
+		year = localDate.getYear();
+		day = localDate.getDayOfMonth();
+		startMonth(localDate.getMonthValue());
+	}
+
+	/**
+	 * 进入公历月
+	 * @param month
+	 */
+	private void startMonth(int month) {
+		this.month = month;
+		monthLength = Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year));
+		firstTermDay = LunarDate.solarTerm(year, (month - 1) * 2);
+		secondTermDay = LunarDate.solarTerm(year, (month - 1) * 2 + 1);
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super LunarDate> action) {
+		Objects.requireNonNull(action, "action");
+		if (epochDay > end) {
+			return false;
+		}
+		int solarTermIndex = -1;
+		if (day == firstTermDay) {
+			solarTermIndex = (month - 1) * 2;
+		} else if (day == secondTermDay) {
+			solarTermIndex = (month - 1) * 2 + 1;
+		}
+		LunarDate lunarDate = new LunarDate(LocalDate.of(year, month, day),
+				LunarDate.monthValue(monthIndex, lDay, solarTermIndex));
+		advance();
+		action.accept(lunarDate);
+		return true;
+	}
+
+	/**
+	 * 前进一天
+	 */
+	private void advance() {
+		epochDay++;
+		if (epochDay > end) {
+			return;
+		}
+		lDay++;
+		if (epochDay == nextMonthStart) {
+			monthIndex++;
+			lDay = 1;
+			nextMonthStart = LunarDate.monthStartDay(monthIndex + 1);
+		}
+		day++;
+		if (day > monthLength) {
+			day = 1;
+			if (month == 12) {
+				year++;
+				startMonth(1);
+			} else {
+				startMonth(month + 1);
+			}
+		}
+	}
+
+	@Override
+	public Spliterator<LunarDate> trySplit() {
+		long remaining = estimateSize();
+		if (remaining < MIN_SPLIT_SIZE) {
+			return null;
+		}
+		long mid = epochDay + remaining / 2;
+		LunarDateSpliterator prefix = new LunarDateSpliterator(epochDay, mid - 1);
+		locate(mid);
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		return Math.max(end - epochDay + 1, 0);
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | DISTINCT | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+	}
+}
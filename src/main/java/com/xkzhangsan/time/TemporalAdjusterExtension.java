@@ -1,9 +1,16 @@
 package com.xkzhangsan.time;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+import com.xkzhangsan.time.holiday.BusinessDayIndex;
 
 /**
  * TemporalAdjuster 扩展
@@ -37,4 +44,58 @@ public final class TemporalAdjusterExtension {
 		};
 	}
 	
+	/**
+	 * 下一个工作日，跳过businessDayIndex中的周末和节假日
+	 * @param businessDayIndex 工作日索引，如：BusinessDayIndex.ofOfficial()
+	 * @return
+	 */
+	public static TemporalAdjuster nextWorkDay(BusinessDayIndex businessDayIndex){
+		Objects.requireNonNull(businessDayIndex, "businessDayIndex");
+		return (temporal) -> adjust(temporal, businessDayIndex::nextBusinessDay);
+	}
+	
+	/**
+	 * 上一个工作日，跳过businessDayIndex中的周末和节假日
+	 * @param businessDayIndex 工作日索引
+	 * @return
+	 */
+	public static TemporalAdjuster previousWorkDay(BusinessDayIndex businessDayIndex){
+		Objects.requireNonNull(businessDayIndex, "businessDayIndex");
+		return (temporal) -> adjust(temporal, businessDayIndex::previousBusinessDay);
+	}
+	
+	/**
+	 * 增加工作日数，days小于0时为减少
+	 * @param days
+	 * @param businessDayIndex 工作日索引
+	 * @return
+	 */
+	public static TemporalAdjuster plusWorkDays(int days, BusinessDayIndex businessDayIndex){
+		Objects.requireNonNull(businessDayIndex, "businessDayIndex");
+		return (temporal) -> adjust(temporal, localDate -> businessDayIndex.plusBusinessDays(localDate, days));
+	}
+	
+	/**
+	 * 当月最后一个工作日
+	 * @param businessDayIndex 工作日索引
+	 * @return
+	 */
+	public static TemporalAdjuster lastWorkDayOfMonth(BusinessDayIndex businessDayIndex){
+		Objects.requireNonNull(businessDayIndex, "businessDayIndex");
+		return (temporal) -> adjust(temporal, localDate -> {
+			LocalDate lastDay = localDate.with(TemporalAdjusters.lastDayOfMonth());
+			return businessDayIndex.isBusinessDay(lastDay) ? lastDay : businessDayIndex.previousBusinessDay(lastDay);
+		});
+	}
+	
+	/**
+	 * 按日期计算目标日期后，按天数调整temporal，保留时间部分
+	 * @param temporal
+	 * @param target
+	 * @return
+	 */
+	private static Temporal adjust(Temporal temporal, UnaryOperator<LocalDate> target){
+		LocalDate localDate = LocalDate.from(temporal);
+		return temporal.plus(target.apply(localDate).toEpochDay() - localDate.toEpochDay(), ChronoUnit.DAYS);
+	}
 }
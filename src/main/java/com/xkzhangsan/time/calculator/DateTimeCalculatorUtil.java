@@ -32,7 +32,9 @@ import com.xkzhangsan.time.enums.ConstellationNameEnum;
 import com.xkzhangsan.time.enums.MonthNameEnum;
 import com.xkzhangsan.time.enums.WeekNameEnum;
 import com.xkzhangsan.time.enums.ZoneIdEnum;
+import com.xkzhangsan.time.formatter.DateTimeFormatterEnum;
 import com.xkzhangsan.time.formatter.DateTimeFormatterUtil;
+import com.xkzhangsan.time.holiday.BusinessDayIndex;
 
 /**
  * 日期计算工具类
@@ -1519,6 +1521,95 @@ public class DateTimeCalculatorUtil {
 		return DateTimeConverterUtil.toDate(DateTimeConverterUtil.toLocalDateTime(date).with(TemporalAdjusterExtension.nextWorkDay()));
 	}
 	
+	/**
+	 * 判断是否工作日，使用工作日索引，包含节假日
+	 * @param localDate
+	 * @param businessDayIndex 工作日索引，如：BusinessDayIndex.ofOfficial()
+	 * @return
+	 */
+	public static boolean isWorkDay(LocalDate localDate, BusinessDayIndex businessDayIndex){
+		Objects.requireNonNull(businessDayIndex, "businessDayIndex");
+		return businessDayIndex.isBusinessDay(localDate);
+	}
+	
+	/**
+	 * 获下一个工作日，跳过节假日
+	 * @param localDate
+	 * @param businessDayIndex 工作日索引
+	 * @return
+	 */
+	public static LocalDate nextWorkDay(LocalDate localDate, BusinessDayIndex businessDayIndex){
+		Objects.requireNonNull(localDate, "localDate");
+		return localDate.with(TemporalAdjusterExtension.nextWorkDay(businessDayIndex));
+	}
+	
+	/**
+	 * 获下一个工作日，跳过节假日
+	 * @param localDateTime
+	 * @param businessDayIndex 工作日索引
+	 * @return
+	 */
+	public static LocalDateTime nextWorkDay(LocalDateTime localDateTime, BusinessDayIndex businessDayIndex){
+		Objects.requireNonNull(localDateTime, "localDateTime");
+		return localDateTime.with(TemporalAdjusterExtension.nextWorkDay(businessDayIndex));
+	}
+	
+	/**
+	 * 获下一个工作日，跳过节假日
+	 * @param date
+	 * @param businessDayIndex 工作日索引
+	 * @return
+	 */
+	public static Date nextWorkDay(Date date, BusinessDayIndex businessDayIndex){
+		return DateTimeConverterUtil.toDate(DateTimeConverterUtil.toLocalDateTime(date).with(TemporalAdjusterExtension.nextWorkDay(businessDayIndex)));
+	}
+	
+	/**
+	 * 获上一个工作日，跳过节假日
+	 * @param localDate
+	 * @param businessDayIndex 工作日索引
+	 * @return
+	 */
+	public static LocalDate previousWorkDay(LocalDate localDate, BusinessDayIndex businessDayIndex){
+		Objects.requireNonNull(localDate, "localDate");
+		return localDate.with(TemporalAdjusterExtension.previousWorkDay(businessDayIndex));
+	}
+	
+	/**
+	 * 增加工作日数，days小于0时为减少
+	 * @param localDate
+	 * @param days
+	 * @param businessDayIndex 工作日索引
+	 * @return
+	 */
+	public static LocalDate plusWorkDays(LocalDate localDate, int days, BusinessDayIndex businessDayIndex){
+		Objects.requireNonNull(localDate, "localDate");
+		return localDate.with(TemporalAdjusterExtension.plusWorkDays(days, businessDayIndex));
+	}
+	
+	/**
+	 * 获取当月最后一个工作日
+	 * @param localDate
+	 * @param businessDayIndex 工作日索引
+	 * @return
+	 */
+	public static LocalDate lastWorkDayOfMonth(LocalDate localDate, BusinessDayIndex businessDayIndex){
+		Objects.requireNonNull(localDate, "localDate");
+		return localDate.with(TemporalAdjusterExtension.lastWorkDayOfMonth(businessDayIndex));
+	}
+	
+	/**
+	 * 计算区间内工作日天数，包含开始，不包含结束
+	 * @param startInclusive
+	 * @param endExclusive
+	 * @param businessDayIndex 工作日索引
+	 * @return
+	 */
+	public static int betweenWorkDays(LocalDate startInclusive, LocalDate endExclusive, BusinessDayIndex businessDayIndex){
+		Objects.requireNonNull(businessDayIndex, "businessDayIndex");
+		return businessDayIndex.countBusinessDays(startInclusive, endExclusive);
+	}
+	
 	/**
 	 * 获取当前系统当前时区时间
 	 * @param zoneId
@@ -2049,7 +2140,7 @@ public class DateTimeCalculatorUtil {
 	 * @return
 	 */
 	public static String getConstellationNameCn(Date date){
-		String monthDayStr = DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.MM_DD_FMT);
+		String monthDayStr = DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.MM_DD.getFormatter());
 		return ConstellationNameEnum.getNameCnByMonthDay(monthDayStr);
 	}
 	
@@ -1,14 +1,20 @@
 package com.xkzhangsan.time.calendar;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterators;
 import java.util.concurrent.ConcurrentHashMap;
 
+import com.xkzhangsan.time.LunarDate;
 import com.xkzhangsan.time.calculator.DateTimeCalculatorUtil;
 import com.xkzhangsan.time.formatter.DateTimeFormatterUtil;
+import com.xkzhangsan.time.holiday.HolidayCalendar;
 import com.xkzhangsan.time.utils.CollectionUtil;
 
 /**
@@ -18,6 +24,7 @@ import com.xkzhangsan.time.utils.CollectionUtil;
  * month) 生成指定年月的日历
  *  2.生成指定时间的日历，包含农历和所有节假日信息方法，generateCalendarWithHoliday*， 比如generateCalendarWithHoliday(int year, int month, Map<String, String> localHolidayMap,
  *			Map<String, String> chineseHolidayMap) 生成指定年月的日历，包含农历和所有节假日信息
+ *  3.使用节日日历生成日历，generateCalendarWithHoliday(int year, int month, HolidayCalendar holidayCalendar)
  * @ClassName: CalendarUtil
  * @Description: CalendarUtil
  * @author xkzhangsan
@@ -36,7 +43,7 @@ public class CalendarUtil {
 	 * @return
 	 */
 	public static CalendarWrapper generateCalendar(int year, int month) {
-		return generateCalendar(year, month, false, false, null, null);
+		return generateCalendar(year, month, false, false, null, null, null);
 	}
 
 	/**
@@ -47,7 +54,7 @@ public class CalendarUtil {
 	 * @return
 	 */
 	public static CalendarWrapper generateCalendarWithLunar(int year, int month) {
-		return generateCalendar(year, month, true, false, null, null);
+		return generateCalendar(year, month, true, false, null, null, null);
 	}
 
 	/**
@@ -62,7 +69,7 @@ public class CalendarUtil {
 	 */
 	public static CalendarWrapper generateCalendarWithLocalHoliday(int year, int month,
 			Map<String, String> localHolidayMap) {
-		return generateCalendar(year, month, false, true, localHolidayMap, null);
+		return generateCalendar(year, month, false, true, localHolidayMap, null, null);
 	}
 
 	/**
@@ -79,7 +86,21 @@ public class CalendarUtil {
 	 */
 	public static CalendarWrapper generateCalendarWithHoliday(int year, int month, Map<String, String> localHolidayMap,
 			Map<String, String> chineseHolidayMap) {
-		return generateCalendar(year, month, true, true, localHolidayMap, chineseHolidayMap);
+		return generateCalendar(year, month, true, true, localHolidayMap, chineseHolidayMap, null);
+	}
+
+	/**
+	 * 生成指定年月的日历，包含农历和节日日历中的节假日信息
+	 * 
+	 * @param year
+	 * @param month
+	 * @param holidayCalendar
+	 *            节日日历，如：HolidayCalendar.get("CN-mainland")
+	 * @return
+	 */
+	public static CalendarWrapper generateCalendarWithHoliday(int year, int month, HolidayCalendar holidayCalendar) {
+		Objects.requireNonNull(holidayCalendar, "holidayCalendar");
+		return generateCalendar(year, month, true, true, null, null, holidayCalendar);
 	}
 
 	/**
@@ -94,10 +115,13 @@ public class CalendarUtil {
 	 *            5表示5月，W表示星期，2表示第二个星期，7表示星期的第7天，为null时，使用默认数据 LocalHolidayEnum
 	 * @param chineseHolidayMap
 	 *            自定义农历节日信息，特殊节日如除夕 用CHUXI表示，为null时，使用默认数据 ChineseHolidayEnum
+	 * @param holidayCalendar
+	 *            节日日历，不为null时代替localHolidayMap和chineseHolidayMap
 	 * @return
 	 */
 	private static CalendarWrapper generateCalendar(int year, int month, boolean includeLunarDate,
-			boolean includeHoliday, Map<String, String> localHolidayMap, Map<String, String> chineseHolidayMap) {
+			boolean includeHoliday, Map<String, String> localHolidayMap, Map<String, String> chineseHolidayMap,
+			HolidayCalendar holidayCalendar) {
 		YearMonth yearMonth = YearMonth.of(year, month);
 		CalendarWrapper calendarWrapper = new CalendarWrapper();
 		Map<String, DayWrapper> dayMap = new ConcurrentHashMap<String, DayWrapper>();
@@ -107,9 +131,12 @@ public class CalendarUtil {
 			return calendarWrapper;
 		}
 		List<DayWrapper> dayWrapperList = new ArrayList<>();
+		Iterator<LunarDate> lunarDateIterator = lunarDateIterator(includeLunarDate, yearMonth.atDay(1),
+				yearMonth.atEndOfMonth());
 		localDateTimeList.stream().forEach(localDateTime -> {
-			DayWrapper dayWrapper = new DayWrapper(localDateTime, includeLunarDate, includeHoliday, localHolidayMap,
-					chineseHolidayMap);
+			DayWrapper dayWrapper = newDayWrapper(localDateTime,
+					nextLunarDate(includeLunarDate, lunarDateIterator, localDateTime), includeHoliday, localHolidayMap,
+					chineseHolidayMap, holidayCalendar);
 			dayWrapperList.add(dayWrapper);
 			dayMap.put(DateTimeFormatterUtil.formatToDateStr(localDateTime), dayWrapper);
 			dayList.add(dayWrapper);
@@ -134,7 +161,7 @@ public class CalendarUtil {
 	 * @return
 	 */
 	public static CalendarWrapper generateCalendar(int year) {
-		return generateCalendar(year, false, false, null, null);
+		return generateCalendar(year, false, false, null, null, null);
 	}
 
 	/**
@@ -144,7 +171,7 @@ public class CalendarUtil {
 	 * @return
 	 */
 	public static CalendarWrapper generateCalendarWithLunar(int year) {
-		return generateCalendar(year, true, false, null, null);
+		return generateCalendar(year, true, false, null, null, null);
 	}
 
 	/**
@@ -157,7 +184,7 @@ public class CalendarUtil {
 	 * @return
 	 */
 	public static CalendarWrapper generateCalendarWithLocalHoliday(int year, Map<String, String> localHolidayMap) {
-		return generateCalendar(year, false, true, localHolidayMap, null);
+		return generateCalendar(year, false, true, localHolidayMap, null, null);
 	}
 
 	/**
@@ -173,7 +200,20 @@ public class CalendarUtil {
 	 */
 	public static CalendarWrapper generateCalendarWithHoliday(int year, Map<String, String> localHolidayMap,
 			Map<String, String> chineseHolidayMap) {
-		return generateCalendar(year, true, true, localHolidayMap, chineseHolidayMap);
+		return generateCalendar(year, true, true, localHolidayMap, chineseHolidayMap, null);
+	}
+
+	/**
+	 * 生成指定年的日历，包含农历和节日日历中的节假日信息
+	 * 
+	 * @param year
+	 * @param holidayCalendar
+	 *            节日日历，如：HolidayCalendar.get("CN-mainland")
+	 * @return
+	 */
+	public static CalendarWrapper generateCalendarWithHoliday(int year, HolidayCalendar holidayCalendar) {
+		Objects.requireNonNull(holidayCalendar, "holidayCalendar");
+		return generateCalendar(year, true, true, null, null, holidayCalendar);
 	}
 
 	/**
@@ -187,14 +227,19 @@ public class CalendarUtil {
 	 *            5表示5月，W表示星期，2表示第二个星期，7表示星期的第7天，为null时，使用默认数据 LocalHolidayEnum
 	 * @param chineseHolidayMap
 	 *            自定义农历节日信息，特殊节日如除夕 用CHUXI表示，为null时，使用默认数据 ChineseHolidayEnum
+	 * @param holidayCalendar
+	 *            节日日历，不为null时代替localHolidayMap和chineseHolidayMap
 	 * @return
 	 */
 	private static CalendarWrapper generateCalendar(int year, boolean includeLunarDate, boolean includeHoliday,
-			Map<String, String> localHolidayMap, Map<String, String> chineseHolidayMap) {
+			Map<String, String> localHolidayMap, Map<String, String> chineseHolidayMap,
+			HolidayCalendar holidayCalendar) {
 		CalendarWrapper calendarWrapper = new CalendarWrapper();
 		Map<String, DayWrapper> dayMap = new ConcurrentHashMap<String, DayWrapper>();
 		List<DayWrapper> dayList = new ArrayList<DayWrapper>();
 		List<MonthWrapper> monthWrapperList = new ArrayList<>();
+		Iterator<LunarDate> lunarDateIterator = lunarDateIterator(includeLunarDate, LocalDate.of(year, 1, 1),
+				LocalDate.of(year, 12, 31));
 		for (int i = 1; i <= 12; i++) {
 			YearMonth yearMonth = YearMonth.of(year, i);
 			List<LocalDateTime> localDateTimeList = DateTimeCalculatorUtil.getLocalDateTimeList(YearMonth.of(year, i));
@@ -203,8 +248,9 @@ public class CalendarUtil {
 			}
 			List<DayWrapper> dayWrapperList = new ArrayList<>();
 			localDateTimeList.stream().forEach(localDateTime -> {
-				DayWrapper dayWrapper = new DayWrapper(localDateTime, includeLunarDate, includeHoliday, localHolidayMap,
-						chineseHolidayMap);
+				DayWrapper dayWrapper = newDayWrapper(localDateTime,
+						nextLunarDate(includeLunarDate, lunarDateIterator, localDateTime), includeHoliday,
+						localHolidayMap, chineseHolidayMap, holidayCalendar);
 				dayWrapperList.add(dayWrapper);
 				dayMap.put(DateTimeFormatterUtil.formatToDateStr(localDateTime), dayWrapper);
 				dayList.add(dayWrapper);
@@ -220,4 +266,56 @@ public class CalendarUtil {
 		calendarWrapper = new CalendarWrapper(yearWrapperList, dayMap, dayList);
 		return calendarWrapper;
 	}
+
+	/**
+	 * 区间内逐日递推的农历日期，超出农历数据支持范围时返回null
+	 * 
+	 * @param includeLunarDate
+	 * @param startInclusive
+	 * @param endInclusive
+	 * @return
+	 */
+	private static Iterator<LunarDate> lunarDateIterator(boolean includeLunarDate, LocalDate startInclusive,
+			LocalDate endInclusive) {
+		if (!includeLunarDate || !LunarDate.isSupported(startInclusive) || !LunarDate.isSupported(endInclusive)) {
+			return null;
+		}
+		return Spliterators.iterator(LunarDate.spliterator(startInclusive, endInclusive));
+	}
+
+	/**
+	 * 下一天的农历日期，没有迭代器时单独计算
+	 * 
+	 * @param includeLunarDate
+	 * @param lunarDateIterator
+	 * @param localDateTime
+	 * @return 不包含农历时返回null
+	 */
+	private static LunarDate nextLunarDate(boolean includeLunarDate, Iterator<LunarDate> lunarDateIterator,
+			LocalDateTime localDateTime) {
+		if (!includeLunarDate) {
+			return null;
+		}
+		return lunarDateIterator != null ? lunarDateIterator.next() : LunarDate.from(localDateTime);
+	}
+
+	/**
+	 * 创建DayWrapper，有节日日历时使用节日日历
+	 * 
+	 * @param localDateTime
+	 * @param lunarDate
+	 * @param includeHoliday
+	 * @param localHolidayMap
+	 * @param chineseHolidayMap
+	 * @param holidayCalendar
+	 * @return
+	 */
+	private static DayWrapper newDayWrapper(LocalDateTime localDateTime, LunarDate lunarDate, boolean includeHoliday,
+			Map<String, String> localHolidayMap, Map<String, String> chineseHolidayMap,
+			HolidayCalendar holidayCalendar) {
+		if (holidayCalendar != null) {
+			return new DayWrapper(localDateTime, null, lunarDate, holidayCalendar);
+		}
+		return new DayWrapper(localDateTime, null, lunarDate, includeHoliday, localHolidayMap, chineseHolidayMap);
+	}
 }
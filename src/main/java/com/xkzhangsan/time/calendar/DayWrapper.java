@@ -11,6 +11,7 @@ import com.xkzhangsan.time.constants.Constant;
 import com.xkzhangsan.time.converter.DateTimeConverterUtil;
 import com.xkzhangsan.time.formatter.DateTimeFormatterUtil;
 import com.xkzhangsan.time.holiday.Holiday;
+import com.xkzhangsan.time.holiday.HolidayCalendar;
 
 /**
  * 日
@@ -120,7 +121,62 @@ public class DayWrapper implements Serializable {
 
 	public DayWrapper(LocalDateTime localDateTime, Object obj, boolean includeLunarDate, boolean includeHoliday,
 			Map<String, String> localHolidayMap, Map<String, String> chineseHolidayMap) {
+		this(localDateTime, obj, includeLunarDate ? LunarDate.from(localDateTime) : null, includeHoliday,
+				localHolidayMap, chineseHolidayMap);
+	}
+
+	/**
+	 * 创建DayWrapper，使用已经生成的农历日期
+	 * 
+	 * @param localDateTime
+	 * @param obj
+	 * @param lunarDate
+	 *            农历日期，为null时不包含农历
+	 * @param includeHoliday
+	 *            是否包含节日
+	 * @param localHolidayMap
+	 *            自定义公历节日数据，为null时，使用默认数据 LocalHolidayEnum
+	 * @param chineseHolidayMap
+	 *            自定义农历节日信息，为null时，使用默认数据 ChineseHolidayEnum
+	 */
+	public DayWrapper(LocalDateTime localDateTime, Object obj, LunarDate lunarDate, boolean includeHoliday,
+			Map<String, String> localHolidayMap, Map<String, String> chineseHolidayMap) {
+		super();
+		init(localDateTime, obj, lunarDate);
+
+		// Holiday
+		if (includeHoliday) {
+			this.localHoliday = Holiday.getLocalHoliday(localDateTime, localHolidayMap);
+			if (lunarDate != null) {
+				this.chineseHoliday = Holiday.getChineseHoliday(localDateTime, chineseHolidayMap);
+			}
+		}
+	}
+
+	/**
+	 * 创建DayWrapper，使用已经生成的农历日期和节日日历
+	 * 
+	 * @param localDateTime
+	 * @param obj
+	 * @param lunarDate
+	 *            农历日期，为null时不包含农历和农历节日
+	 * @param holidayCalendar
+	 *            节日日历，为null时不包含节日
+	 */
+	public DayWrapper(LocalDateTime localDateTime, Object obj, LunarDate lunarDate, HolidayCalendar holidayCalendar) {
 		super();
+		init(localDateTime, obj, lunarDate);
+
+		// Holiday
+		if (holidayCalendar != null) {
+			this.localHoliday = Holiday.getLocalHoliday(holidayCalendar, localDateTime);
+			if (lunarDate != null) {
+				this.chineseHoliday = Holiday.getChineseHoliday(holidayCalendar, localDateTime);
+			}
+		}
+	}
+
+	private void init(LocalDateTime localDateTime, Object obj, LunarDate lunarDate) {
 		this.localDateTime = localDateTime;
 		this.date = DateTimeConverterUtil.toDate(localDateTime);
 		this.dateStr = DateTimeFormatterUtil.formatToDateStr(localDateTime);
@@ -133,19 +189,11 @@ public class DayWrapper implements Serializable {
 		this.obj = obj;
 
 		// LunarDate
-		if (includeLunarDate) {
-			this.lunarDate = LunarDate.from(localDateTime);
+		if (lunarDate != null) {
+			this.lunarDate = lunarDate;
 			this.lunarDateStr = lunarDate.getlDateCn();
 			this.solarTerm = lunarDate.getSolarTerm();
 		}
-
-		// Holiday
-		if (includeHoliday) {
-			this.localHoliday = Holiday.getLocalHoliday(localDateTime, localHolidayMap);
-			if (includeLunarDate) {
-				this.chineseHoliday = Holiday.getChineseHoliday(localDateTime, chineseHolidayMap);
-			}
-		}
 	}
 
 	public Date getDate() {
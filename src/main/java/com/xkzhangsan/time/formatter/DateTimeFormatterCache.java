@@ -0,0 +1,187 @@
+package com.xkzhangsan.time.formatter;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DateTimeFormatter 缓存
+ * DateTimeFormatter.ofPattern 每次都要解析pattern，DateTimeFormatterUtil.getFormatter 通过本缓存按pattern、Locale和ZoneId共享实例
+ * 1.有界缓存，2路组相联：按key的hash映射到一组2个槽位，命中不写入，未命中时新项放入第1个槽位，原第1个移到第2个，淘汰原第2个，
+ *   两个hash到同一组的pattern交替使用时都能保持缓存，读写无锁，容量为1时只有1个槽位
+ * 2.命中率和大小统计，getHitCount() getMissCount() getHitRate() getSize()
+ *
+* @ClassName: DateTimeFormatterCache
+* @Description: DateTimeFormatterCache
+* @author xkzhangsan
+* @date 2026年10月17日
+ */
+public final class DateTimeFormatterCache {
+
+	/**
+	 * 默认容量
+	 */
+	public static final int DEFAULT_CAPACITY = 1 << 8;
+
+	/**
+	 * 最大容量
+	 */
+	private static final int MAX_CAPACITY = 1 << 16;
+
+	private static volatile Table table = new Table(DEFAULT_CAPACITY);
+
+	private static final LongAdder hitCount = new LongAdder();
+
+	private static final LongAdder missCount = new LongAdder();
+
+	private DateTimeFormatterCache() {
+	}
+
+	/**
+	 * 从缓存获取DateTimeFormatter，不存在时创建并放入缓存
+	 * @param pattern
+	 * @param locale
+	 * @param zoneId 为null时不设置时区
+	 * @return
+	 */
+	static DateTimeFormatter get(String pattern, Locale locale, ZoneId zoneId) {
+		Table current = table;
+		int hash = (pattern.hashCode() * 31 + locale.hashCode()) * 31 + (zoneId == null ? 0 : zoneId.hashCode());
+		int base = ((hash * 0x9E3779B9 >>> 16) & (current.sets - 1)) * current.ways;
+		for (int i = base; i < base + current.ways; i++) {
+			Entry entry = current.slots.get(i);
+			if (entry != null && entry.matches(pattern, locale, zoneId)) {
+				hitCount.increment();
+				return entry.formatter;
+			}
+		}
+		missCount.increment();
+		DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern, locale);
+		if (zoneId != null) {
+			formatter = formatter.withZone(zoneId);
+		}
+		Entry first = current.slots.getAndSet(base, new Entry(pattern, locale, zoneId, formatter));
+		if (first == null || (current.ways > 1 && current.slots.getAndSet(base + 1, first) == null)) {
+			current.size.incrementAndGet();
+		}
+		return formatter;
+	}
+
+	/**
+	 * 重新设置缓存容量，并清空缓存
+	 * @param capacity 容量，向上取整为2的幂，最大为2的16次方
+	 */
+	public static synchronized void setCapacity(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+		int size = capacity >= MAX_CAPACITY ? MAX_CAPACITY : Integer.highestOneBit(capacity - 1) << 1;
+		table = new Table(Math.max(size, 1));
+	}
+
+	/**
+	 * 清空缓存和统计数据，保持当前容量
+	 */
+	public static synchronized void clear() {
+		table = new Table(table.slots.length());
+		hitCount.reset();
+		missCount.reset();
+	}
+
+	/**
+	 * 缓存容量
+	 * @return
+	 */
+	public static int getCapacity() {
+		return table.slots.length();
+	}
+
+	/**
+	 * 缓存中的DateTimeFormatter数量
+	 * @return
+	 */
+	public static int getSize() {
+		return table.size.get();
+	}
+
+	/**
+	 * 命中次数
+	 * @return
+	 */
+	public static long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * 未命中次数
+	 * @return
+	 */
+	public static long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * 命中率，没有访问时为0
+	 * @return
+	 */
+	public static double getHitRate() {
+		long hit = hitCount.sum();
+		long total = hit + missCount.sum();
+		return total == 0 ? 0 : (double) hit / total;
+	}
+
+	/**
+	 * 缓存项
+	 */
+	private static final class Entry {
+
+		private final String pattern;
+
+		private final Locale locale;
+
+		private final ZoneId zoneId;
+
+		private final DateTimeFormatter formatter;
+
+		private Entry(String pattern, Locale locale, ZoneId zoneId, DateTimeFormatter formatter) {
+			this.pattern = pattern;
+			this.locale = locale;
+			this.zoneId = zoneId;
+			this.formatter = formatter;
+		}
+
+		private boolean matches(String pattern, Locale locale, ZoneId zoneId) {
+			return this.pattern.equals(pattern) && this.locale.equals(locale) && Objects.equals(this.zoneId, zoneId);
+		}
+	}
+
+	/**
+	 * 缓存槽位，第i组为slots[i * ways]和slots[i * ways + 1]
+	 */
+	private static final class Table {
+
+		private final AtomicReferenceArray<Entry> slots;
+
+		/**
+		 * 每组槽位数，容量为1时为1，否则为2
+		 */
+		private final int ways;
+
+		/**
+		 * 组数，2的幂
+		 */
+		private final int sets;
+
+		private final AtomicInteger size = new AtomicInteger();
+
+		private Table(int capacity) {
+			this.slots = new AtomicReferenceArray<>(capacity);
+			this.ways = capacity == 1 ? 1 : 2;
+			this.sets = capacity / ways;
+		}
+	}
+}
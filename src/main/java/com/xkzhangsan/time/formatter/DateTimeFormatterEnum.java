@@ -0,0 +1,270 @@
+package com.xkzhangsan.time.formatter;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 已定义好的DateTimeFormatter，如YYYY_MM_DD_HH_MM_SS （yyyy-MM-dd HH:mm:ss）
+ * 
+ * 每个Formatter在第一次调用getFormatter()时才根据pattern创建，加载DateTimeFormatterUtil或本枚举时不会创建全部Formatter。
+ * 
+ * 注意：格式化和解析ZonedDateTime 时区时间时，只能使用ISO开头的Formatter和YYYY_MM_DD_T_HH_MM_SS_Z，
+ * 其他Formatter都绑定的是系统默认时区，如果需要使用其他时区，可以使用withZone方法重新设置，比如：
+ * DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS_SSS.getFormatter().withZone(ZoneId.of("Europe/Paris"))
+ * 
+ * @ClassName: DateTimeFormatterEnum
+ * @Description: DateTimeFormatterEnum
+ * @author xkzhangsan
+ * @date 2026年10月17日
+ */
+public enum DateTimeFormatterEnum {
+
+	/**
+	 * such as 2019
+	 */
+	YYYY("yyyy"),
+
+	/**
+	 * such as 2019-12
+	 */
+	YYYY_MM("yyyy-MM"),
+
+	/**
+	 * such as 201912
+	 */
+	YYYYMM("yyyyMM"),
+
+	/**
+	 * such as 2019年12月
+	 */
+	YYYY_MM_CN("yyyy年MM月"),
+
+	/**
+	 * such as 2019/12
+	 */
+	YYYY_MM_EN("yyyy/MM"),
+
+	/**
+	 * such as 2019-12-03
+	 */
+	YYYY_MM_DD("yyyy-MM-dd"),
+
+	/**
+	 * such as 20191203
+	 */
+	YYYYMMDD("yyyyMMdd"),
+
+	/**
+	 * such as 2019.12.03
+	 */
+	YYYY_MM_DD_POINT("yyyy.MM.dd"),
+
+	/**
+	 * such as 2019年12月03日
+	 */
+	YYYY_MM_DD_CN("yyyy年MM月dd日"),
+
+	/**
+	 * such as 2019/12/03
+	 */
+	YYYY_MM_DD_EN("yyyy/MM/dd"),
+
+	/**
+	 * such as 2020-01-01 星期三
+	 */
+	YYYY_MM_DD_E("yyyy-MM-dd E"),
+
+	/**
+	 * such as 201912032147
+	 */
+	YYYYMMDDHHMM("yyyyMMddHHmm"),
+
+	/**
+	 * such as 2019-12-03 21:47
+	 */
+	YYYY_MM_DD_HH_MM("yyyy-MM-dd HH:mm"),
+
+	/**
+	 * such as 20191203214731
+	 */
+	YYYYMMDDHHMMSS("yyyyMMddHHmmss"),
+
+	/**
+	 * such as 2019-12-03 21:47:31
+	 */
+	YYYY_MM_DD_HH_MM_SS("yyyy-MM-dd HH:mm:ss"),
+
+	/**
+	 * such as 2019年12月03日 21:47:31
+	 */
+	YYYY_MM_DD_HH_MM_SS_CN("yyyy年MM月dd日 HH:mm:ss"),
+
+	/**
+	 * such as 2020年01月01日 00:00:00 上午
+	 */
+	YYYY_MM_DD_HH_MM_SS_A_CN("yyyy年MM月dd日 HH:mm:ss a"),
+
+	/**
+	 * such as 20191203214731714
+	 */
+	YYYYMMDDHHMMSSSSS("yyyyMMddHHmmssSSS"),
+
+	/**
+	 * such as 2019-12-03 21:47:31.991
+	 */
+	YYYY_MM_DD_HH_MM_SS_SSS("yyyy-MM-dd HH:mm:ss.SSS"),
+
+	/**
+	 * such as 12-03 21:47
+	 */
+	MM_DD_HH_MM("MM-dd HH:mm"),
+
+	/**
+	 * such as 12月03日 21:47
+	 */
+	MM_DD_HH_MM_CN("MM月dd日 HH:mm"),
+
+	/**
+	 * such as 214731
+	 */
+	HHMMSS("HHmmss"),
+
+	/**
+	 * such as 21:47:31
+	 */
+	HH_MM_SS("HH:mm:ss"),
+
+	/**
+	 * such as 12月03日
+	 */
+	MM_DD_CN("MM月dd日"),
+
+	/**
+	 * such as 01-01
+	 */
+	MM_DD("MM-dd"),
+
+	/**
+	 * such as 0101
+	 */
+	MMDD("MMdd"),
+
+	/**
+	 * such as 12月03日 21:47:31
+	 */
+	MM_DD_HH_MM_SS_CN("MM月dd日 HH:mm:ss"),
+
+	/**
+	 * such as 01-01 00:00:00
+	 */
+	MM_DD_HH_MM_SS("MM-dd HH:mm:ss"),
+
+	/**
+	 * ZonedDateTime 时区时间格式Formatter
+	 * such as 2020-02-18T22:37:55+0800
+	 */
+	YYYY_MM_DD_T_HH_MM_SS_Z("yyyy-MM-dd'T'HH:mm:ssZ", false),
+
+	/**
+	 * such as '2011-12-03' or '2011-12-03+01:00'.
+	 */
+	ISO_DATE(DateTimeFormatter.ISO_DATE),
+
+	/**
+	 * such as '2011-12-03T10:15:30','2011-12-03T10:15:30+01:00' or '2011-12-03T10:15:30+01:00[Europe/Paris]'.
+	 */
+	ISO_DATE_TIME(DateTimeFormatter.ISO_DATE_TIME),
+
+	/**
+	 * such as '2011-12-03T10:15:30Z'.
+	 */
+	ISO_INSTANT(DateTimeFormatter.ISO_INSTANT),
+
+	/**
+	 * such as '2011-12-03'.
+	 */
+	ISO_LOCAL_DATE(DateTimeFormatter.ISO_LOCAL_DATE),
+
+	/**
+	 * such as '2011-12-03T10:15:30'.
+	 */
+	ISO_LOCAL_DATE_TIME(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+
+	/**
+	 * such as '10:15' or '10:15:30'.
+	 */
+	ISO_LOCAL_TIME(DateTimeFormatter.ISO_LOCAL_TIME),
+
+	/**
+	 * such as '10:15', '10:15:30' or '10:15:30+01:00'.
+	 */
+	ISO_TIME(DateTimeFormatter.ISO_TIME),
+
+	/**
+	 * such as '2012-W48-6'.
+	 */
+	ISO_WEEK_DATE(DateTimeFormatter.ISO_WEEK_DATE),
+
+	/**
+	 * such as '2011-12-03T10:15:30+01:00[Europe/Paris]'.
+	 */
+	ISO_ZONED_DATE_TIME(DateTimeFormatter.ISO_ZONED_DATE_TIME),
+
+	/**
+	 * such as '20111203'.
+	 */
+	BASIC_ISO_DATE(DateTimeFormatter.BASIC_ISO_DATE);
+
+	/**
+	 * 格式，ISO开头的Formatter为null
+	 */
+	private final String pattern;
+	
+	/**
+	 * 是否绑定系统默认时区
+	 */
+	private final boolean zoned;
+	
+	/**
+	 * 第一次调用getFormatter()时创建，DateTimeFormatter不可变，并发时重复创建也只是得到相同的Formatter
+	 */
+	private volatile DateTimeFormatter formatter;
+	
+	private DateTimeFormatterEnum(String pattern) {
+		this(pattern, true);
+	}
+	
+	private DateTimeFormatterEnum(String pattern, boolean zoned) {
+		this.pattern = pattern;
+		this.zoned = zoned;
+	}
+	
+	private DateTimeFormatterEnum(DateTimeFormatter formatter) {
+		this.pattern = null;
+		this.zoned = false;
+		this.formatter = formatter;
+	}
+	
+	/**
+	 * 获取Formatter，第一次调用时创建
+	 * @return DateTimeFormatter
+	 */
+	public DateTimeFormatter getFormatter() {
+		DateTimeFormatter result = formatter;
+		if (result == null) {
+			result = DateTimeFormatter.ofPattern(pattern);
+			if (zoned) {
+				result = result.withZone(DateTimeFormatterUtil.ZONE);
+			}
+			formatter = result;
+		}
+		return result;
+	}
+	
+	/**
+	 * 获取格式，ISO开头的Formatter返回null
+	 * @return String
+	 */
+	public String getPattern() {
+		return pattern;
+	}
+}
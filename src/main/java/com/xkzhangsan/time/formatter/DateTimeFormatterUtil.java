@@ -9,6 +9,7 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
 import java.util.Date;
+import java.util.Locale;
 import java.util.Objects;
 
 import com.xkzhangsan.time.converter.DateTimeConverterUtil;
@@ -22,17 +23,22 @@ import com.xkzhangsan.time.converter.DateTimeConverterUtil;
  * yyyy-MM-dd'T'HH:mm:ssZ等等
  * 
  * 1.格式化方法， format*， 比如formatToDateStr(Date date) 格式化，返回日期部分，如：yyyy-MM-dd； 
- * format(Date date, DateTimeFormatter formatter) formatter 可以选择已定义好的formatter比如YYYY_MM_DD_HH_MM_SS_FMT （yyyy-MM-dd HH:mm:ss）
+ * format(Date date, DateTimeFormatter formatter) formatter 可以选择DateTimeFormatterEnum中已定义好的formatter比如DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS.getFormatter() （yyyy-MM-dd HH:mm:ss），第一次使用时才创建
+ * 
+ * format(Date date, FastDateTimeFormatter formatter) 固定宽度数字格式的快速格式化，比如FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS，直接写入数字，不经过DateTimeFormatter
+ * 
+ * format(Date date, String pattern) 使用任意pattern格式化，getFormatter(String pattern, Locale locale, ZoneId zoneId) 获取的DateTimeFormatter缓存在DateTimeFormatterCache中
  * 
  * 2.解析方法， parse*， 比如parseDateStrToDate(String text) 解析日期yyyy-MM-dd，返回Date；
  * parseToDate(String text, DateTimeFormatter formatter) 根据 formatter解析为 Date
+ * parseToEpochMilli(String text, FastDateTimeFormatter formatter) 固定宽度数字格式的快速解析，按位置校验数字，不创建中间对象
  * 
- * 注意：格式化和解析ZonedDateTime 时区时间时，只能使用ISO开头的Formatter，如ISO_DATE_FMT和YYYY_MM_DD_T_HH_MM_SS_Z_FMT
+ * 注意：格式化和解析ZonedDateTime 时区时间时，只能使用ISO开头的Formatter，如DateTimeFormatterEnum.ISO_DATE和YYYY_MM_DD_T_HH_MM_SS_Z
  * 因为，其他Formatter都绑定的是系统默认时区：
- * private static final ZoneId ZONE = ZoneId.systemDefault();
+ * static final ZoneId ZONE = ZoneId.systemDefault();
  * 
  * 如果需要使用其他Formatter，可以使用withZone方法重新设置时区，比如：
- * YYYY_MM_DD_HH_MM_SS_SSS_FMT.withZone(ZoneId.of("Europe/Paris")
+ * DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS_SSS.getFormatter().withZone(ZoneId.of("Europe/Paris"))
 * @ClassName: DateTimeFormatterUtil 
 * @Description: DateTime Formatter
 * @author xkzhangsan
@@ -44,270 +50,34 @@ public class DateTimeFormatterUtil {
 	private DateTimeFormatterUtil(){
 	}
 	
-	private static final String YYYY = "yyyy";
-	
-	private static final String YYYY_MM = "yyyy-MM";
-  
-	private static final String YYYYMM = "yyyyMM";
-	
-	private static final String YYYY_MM_CN = "yyyy年MM月";	
-	
-	private static final String YYYY_MM_EN = "yyyy/MM";
-    
-	private static final String YYYY_MM_DD = "yyyy-MM-dd";
-      
-	private static final String YYYYMMDD = "yyyyMMdd";
-	
-	private static final String YYYY_MM_DD_POINT = "yyyy.MM.dd";
-    
-	private static final String YYYY_MM_DD_CN = "yyyy年MM月dd日";
-    
-	private static final String YYYY_MM_DD_EN = "yyyy/MM/dd";
-	
-	private static final String YYYY_MM_DD_E = "yyyy-MM-dd E";
-	
-	private static final String YYYYMMDDHHMM = "yyyyMMddHHmm";
-  
-	private static final String YYYY_MM_DD_HH_MM = "yyyy-MM-dd HH:mm";
-    
-	private static final String YYYYMMDDHHMMSS = "yyyyMMddHHmmss";
-      
-	private static final String YYYY_MM_DD_HH_MM_SS = "yyyy-MM-dd HH:mm:ss";
-    
-	private static final String YYYY_MM_DD_HH_MM_SS_CN = "yyyy年MM月dd日 HH:mm:ss";
-	
-	private static final String YYYY_MM_DD_HH_MM_SS_A_CN = "yyyy年MM月dd日 HH:mm:ss a";	
-    
-	private static final String YYYYMMDDHHMMSSSSS = "yyyyMMddHHmmssSSS";
-    
-	private static final String YYYY_MM_DD_HH_MM_SS_SSS = "yyyy-MM-dd HH:mm:ss.SSS";
-	
-	private static final String MM_DD_HH_MM = "MM-dd HH:mm";
-    
-	private static final String MM_DD_HH_MM_CN = "MM月dd日 HH:mm";
-
-	private static String HHMMSS = "HHmmss";
-    
-	private static String HH_MM_SS = "HH:mm:ss";
-	
-	private static final String MM_DD = "MM-dd";
-	
-	private static final String MMDD = "MMdd";	
-    
-	private static final String MM_DD_CN = "MM月dd日";
-	
-	private static final String MM_DD_HH_MM_SS = "MM-dd HH:mm:ss";	
-    
-	private static final String MM_DD_HH_MM_SS_CN = "MM月dd日 HH:mm:ss";
-	
-	/**
-	 * ZonedDateTime 时区时间格式
-	 */
-	private static final String YYYY_MM_DD_T_HH_MM_SS_Z = "yyyy-MM-dd'T'HH:mm:ssZ";
-    
-	//  ============================formatters============================
-    
-    private static final ZoneId ZONE = ZoneId.systemDefault();
-    
-    /**
-     * such as 2019
-     */
-	public static final DateTimeFormatter YYYY_FMT = DateTimeFormatter.ofPattern(YYYY).withZone(ZONE);
-	
-    /**
-     * such as 2019-12
-     */	
-	public static final DateTimeFormatter YYYY_MM_FMT = DateTimeFormatter.ofPattern(YYYY_MM).withZone(ZONE);
-  
-    /**
-     * such as 201912
-     */	
-	public static final DateTimeFormatter YYYYMM_FMT = DateTimeFormatter.ofPattern(YYYYMM).withZone(ZONE);
-	
-    /**
-     * such as 12月03日
-     */
-	public static final DateTimeFormatter YYYY_MM_CN_FMT = DateTimeFormatter.ofPattern(YYYY_MM_CN).withZone(ZONE);
-	
-    /**
-     * such as 2019/12
-     */	
-    public static final DateTimeFormatter YYYY_MM_EN_FMT = DateTimeFormatter.ofPattern(YYYY_MM_EN).withZone(ZONE);
-    
-    /**
-     * such as 2019-12-03
-     */	    
-	public static final DateTimeFormatter YYYY_MM_DD_FMT = DateTimeFormatter.ofPattern(YYYY_MM_DD).withZone(ZONE);
-      
-    /**
-     * such as 20191203
-     */	
-	public static final DateTimeFormatter YYYYMMDD_FMT = DateTimeFormatter.ofPattern(YYYYMMDD).withZone(ZONE);
-	
-    /**
-     * such as 2019.12.03
-     */	
-    public static final DateTimeFormatter YYYY_MM_DD_POINT_FMT = DateTimeFormatter.ofPattern(YYYY_MM_DD_POINT).withZone(ZONE);
-    
-    /**
-     * such as 2019年12月03日
-     */    
-    public static final DateTimeFormatter YYYY_MM_DD_CN_FMT = DateTimeFormatter.ofPattern(YYYY_MM_DD_CN).withZone(ZONE);
-    
-    /**
-     * such as 2019/12/03
-     */    
-    public static final DateTimeFormatter YYYY_MM_DD_EN_FMT = DateTimeFormatter.ofPattern(YYYY_MM_DD_EN).withZone(ZONE);
-    
-    /**
-     * such as 2020-01-01 星期三
-     */
-    public static final DateTimeFormatter YYYY_MM_DD_E_FMT = DateTimeFormatter.ofPattern(YYYY_MM_DD_E).withZone(ZONE);
-	
-    /**
-     * such as 201912032147
-     */     
-    public static final DateTimeFormatter YYYYMMDDHHMM_FMT = DateTimeFormatter.ofPattern(YYYYMMDDHHMM).withZone(ZONE);
-  
-    /**
-     * such as 2019-12-03 21:47
-     */    
-    public static final DateTimeFormatter YYYY_MM_DD_HH_MM_FMT = DateTimeFormatter.ofPattern(YYYY_MM_DD_HH_MM).withZone(ZONE);
-    
-    /**
-     * such as 20191203214731
-     */    
-    public static final DateTimeFormatter YYYYMMDDHHMMSS_FMT = DateTimeFormatter.ofPattern(YYYYMMDDHHMMSS).withZone(ZONE);
-     
-    /**
-     * such as 2019-12-03 21:47:31
-     */    
-    public static final DateTimeFormatter YYYY_MM_DD_HH_MM_SS_FMT = DateTimeFormatter.ofPattern(YYYY_MM_DD_HH_MM_SS).withZone(ZONE);
-    
     /**
-     * such as 2019年12月03日 21:47:31
-     */    
-    public static final DateTimeFormatter YYYY_MM_DD_HH_MM_SS_CN_FMT = DateTimeFormatter.ofPattern(YYYY_MM_DD_HH_MM_SS_CN).withZone(ZONE);
-    
-    /**
-     * such as 2020年01月01日 00:00:00 上午
+     * 系统默认时区，DateTimeFormatterEnum中除ISO开头和YYYY_MM_DD_T_HH_MM_SS_Z外的Formatter都绑定此时区
      */
-    public static final DateTimeFormatter YYYY_MM_DD_HH_MM_SS_A_CN_FMT = DateTimeFormatter.ofPattern(YYYY_MM_DD_HH_MM_SS_A_CN).withZone(ZONE);
-    
-    /**
-     * such as 20191203214731714
-     */    
-    public static final DateTimeFormatter YYYYMMDDHHMMSSSSS_FMT = DateTimeFormatter.ofPattern(YYYYMMDDHHMMSSSSS).withZone(ZONE);
-    
-    /**
-     * such as 2019-12-03 21:47:31.991
-     */    
-    public static final DateTimeFormatter YYYY_MM_DD_HH_MM_SS_SSS_FMT = DateTimeFormatter.ofPattern(YYYY_MM_DD_HH_MM_SS_SSS).withZone(ZONE);
+    static final ZoneId ZONE = ZoneId.systemDefault();
     
-    /**
-     * such as 12-03 21:47
-     */    
-    public static final DateTimeFormatter MM_DD_HH_MM_FMT = DateTimeFormatter.ofPattern(MM_DD_HH_MM).withZone(ZONE);
-    
-    /**
-     * such as 12月03日 21:47
-     */    
-    public static final DateTimeFormatter MM_DD_HH_MM_CN_FMT = DateTimeFormatter.ofPattern(MM_DD_HH_MM_CN).withZone(ZONE);
-
-    /**
-     * such as 214731
-     */    
-    public static final DateTimeFormatter HHMMSS_FMT = DateTimeFormatter.ofPattern(HHMMSS).withZone(ZONE);
-    
-    /**
-     * such as 21:47:31
-     */    
-    public static final DateTimeFormatter HH_MM_SS_FMT = DateTimeFormatter.ofPattern(HH_MM_SS).withZone(ZONE);
+    //  ============================getFormatter============================
     
     /**
-     * such as 12月03日
-     */    
-    public static final DateTimeFormatter MM_DD_CN_FMT = DateTimeFormatter.ofPattern(MM_DD_CN).withZone(ZONE);
-    
-    /**
-     * such as 01-01
-     */
-    public static final DateTimeFormatter MM_DD_FMT = DateTimeFormatter.ofPattern(MM_DD).withZone(ZONE);
-
-    /**
-     * such as 0101
-     */
-    public static final DateTimeFormatter MMDD_FMT = DateTimeFormatter.ofPattern(MMDD).withZone(ZONE);
-    
-    /**
-     * such as 12月03日 21:47:31
-     */    
-    public static final DateTimeFormatter MM_DD_HH_MM_SS_CN_FMT = DateTimeFormatter.ofPattern(MM_DD_HH_MM_SS_CN).withZone(ZONE);
-    
-    /**
-     * such as 01-01 00:00:00
-     */
-    public static final DateTimeFormatter MM_DD_HH_MM_SS_FMT = DateTimeFormatter.ofPattern(MM_DD_HH_MM_SS).withZone(ZONE);
-    
-    /**
-     * ZonedDateTime 时区时间格式Formatter
-     * such as 2020-02-18T22:37:55+0800
+     * 根据pattern获取DateTimeFormatter，使用默认Locale和系统默认时区，结果缓存在DateTimeFormatterCache中
+     * @param pattern 如：yyyy-MM-dd HH:mm:ss
+     * @return
      */
-    public static final DateTimeFormatter YYYY_MM_DD_T_HH_MM_SS_Z_FMT = DateTimeFormatter.ofPattern(YYYY_MM_DD_T_HH_MM_SS_Z);
-    
-    //ISO Formatters
+    public static DateTimeFormatter getFormatter(String pattern){
+    	return getFormatter(pattern, null, ZONE);
+    }
     
     /**
-     * such as '2011-12-03' or '2011-12-03+01:00'. 
+     * 根据pattern、locale和zoneId获取DateTimeFormatter，结果缓存在DateTimeFormatterCache中，避免每次调用DateTimeFormatter.ofPattern
+     * @param pattern 如：yyyy-MM-dd HH:mm:ss
+     * @param locale 为null时使用默认Locale
+     * @param zoneId 为null时不设置时区
+     * @return
      */
-    public static final DateTimeFormatter ISO_DATE_FMT = DateTimeFormatter.ISO_DATE;
+    public static DateTimeFormatter getFormatter(String pattern, Locale locale, ZoneId zoneId){
+    	Objects.requireNonNull(pattern, "pattern");
+    	return DateTimeFormatterCache.get(pattern, locale == null ? Locale.getDefault(Locale.Category.FORMAT) : locale, zoneId);
+    }
     
-    /**
-     * such as '2011-12-03T10:15:30','2011-12-03T10:15:30+01:00' or '2011-12-03T10:15:30+01:00[Europe/Paris]'. 
-     */
-	public static final DateTimeFormatter ISO_DATE_TIME_FMT = DateTimeFormatter.ISO_DATE_TIME;
-	
-	/**
-	 * such as '2011-12-03T10:15:30Z'. 
-	 */
-	public static final DateTimeFormatter ISO_INSTANT_FMT = DateTimeFormatter.ISO_INSTANT;
-	
-	/**
-	 * such as '2011-12-03'. 
-	 */
-	public static final DateTimeFormatter ISO_LOCAL_DATE_FMT = DateTimeFormatter.ISO_LOCAL_DATE;
-	
-	/**
-	 * such as '2011-12-03T10:15:30'. 
-	 */
-	public static final DateTimeFormatter ISO_LOCAL_DATE_TIME_FMT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
-	
-	/**
-	 * such as '10:15' or '10:15:30'. 
-	 */
-	public static final DateTimeFormatter ISO_LOCAL_TIME_FMT = DateTimeFormatter.ISO_LOCAL_TIME;
-	
-	
-	/**
-	 * such as '10:15', '10:15:30' or '10:15:30+01:00'. 
-	 */
-	public static final DateTimeFormatter ISO_TIME_FMT = DateTimeFormatter.ISO_TIME;
-	
-	/**
-	 * such as '2012-W48-6'. 
-	 */
-	public static final DateTimeFormatter ISO_WEEK_DATE_FMT = DateTimeFormatter.ISO_WEEK_DATE;
-	
-	/**
-	 * such as '2011-12-03T10:15:30+01:00[Europe/Paris]'. 
-	 */
-	public static final DateTimeFormatter ISO_ZONED_DATE_TIME_FMT = DateTimeFormatter.ISO_ZONED_DATE_TIME;
-	
-	/**
-	 * such as '20111203'. 
-	 */
-	public static final DateTimeFormatter BASIC_ISO_DATE_FMT = DateTimeFormatter.BASIC_ISO_DATE;
-	
     //  =============================format===========================
     
     /**
@@ -316,7 +86,8 @@ public class DateTimeFormatterUtil {
      * @return
      */
     public static String formatToDateStr(Date date){
-    	return DateTimeConverterUtil.toLocalDateTime(date).format(YYYY_MM_DD_FMT);
+    	Objects.requireNonNull(date, "date");
+    	return FastDateTimeFormatter.YYYY_MM_DD.format(date.getTime(), ZONE);
     }
     
     /**
@@ -326,7 +97,7 @@ public class DateTimeFormatterUtil {
      */
     public static String formatToDateStr(LocalDateTime localDateTime){
     	Objects.requireNonNull(localDateTime, "localDateTime");
-    	return localDateTime.format(YYYY_MM_DD_FMT);
+    	return FastDateTimeFormatter.YYYY_MM_DD.format(localDateTime);
     }
     
     /**
@@ -335,7 +106,8 @@ public class DateTimeFormatterUtil {
      * @return
      */
     public static String formatToDateTimeStr(Date date){
-    	return DateTimeConverterUtil.toLocalDateTime(date).format(YYYY_MM_DD_HH_MM_SS_FMT);
+    	Objects.requireNonNull(date, "date");
+    	return FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS.format(date.getTime(), ZONE);
     }
     
     /**
@@ -345,7 +117,7 @@ public class DateTimeFormatterUtil {
      */
     public static String formatToDateTimeStr(LocalDateTime localDateTime){
     	Objects.requireNonNull(localDateTime, "localDateTime");
-    	return localDateTime.format(YYYY_MM_DD_HH_MM_SS_FMT);
+    	return FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS.format(localDateTime);
     }
     
     /**
@@ -354,7 +126,8 @@ public class DateTimeFormatterUtil {
      * @return
      */
     public static String formatToTimeStr(Date date){
-    	return DateTimeConverterUtil.toLocalDateTime(date).format(HH_MM_SS_FMT);
+    	Objects.requireNonNull(date, "date");
+    	return FastDateTimeFormatter.HH_MM_SS.format(date.getTime(), ZONE);
     }
     
     /**
@@ -364,7 +137,7 @@ public class DateTimeFormatterUtil {
      */
     public static String formatToTimeStr(LocalDateTime localDateTime){
     	Objects.requireNonNull(localDateTime, "localDateTime");
-    	return localDateTime.format(HH_MM_SS_FMT);
+    	return FastDateTimeFormatter.HH_MM_SS.format(localDateTime);
     }
     
     /**
@@ -431,6 +204,104 @@ public class DateTimeFormatterUtil {
     	return formatter.format(temporal);
     }
     
+    /**
+     * 根据 pattern格式化 date
+     * @param date
+     * @param pattern 如：yyyy-MM-dd HH:mm:ss
+     * @return
+     */
+    public static String format(Date date, String pattern){
+    	return format(date, getFormatter(pattern));
+    }
+    
+    /**
+     * 根据 pattern格式化 localDateTime
+     * @param localDateTime
+     * @param pattern 如：yyyy-MM-dd HH:mm:ss
+     * @return
+     */
+    public static String format(LocalDateTime localDateTime, String pattern){
+    	return format(localDateTime, getFormatter(pattern));
+    }
+    
+    /**
+     * 根据 pattern格式化 localDate
+     * @param localDate
+     * @param pattern 如：yyyy-MM-dd
+     * @return
+     */
+    public static String format(LocalDate localDate, String pattern){
+    	return format(localDate, getFormatter(pattern));
+    }
+    
+    /**
+     * 根据 pattern格式化 instant，使用系统默认时区
+     * @param instant
+     * @param pattern 如：yyyy-MM-dd HH:mm:ss
+     * @return
+     */
+    public static String format(Instant instant, String pattern){
+    	return format(instant, getFormatter(pattern));
+    }
+    
+    /**
+     * 根据 FastDateTimeFormatter格式化 date
+     * @param date
+     * @param formatter 固定宽度数字格式，如：FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS
+     * @return
+     */
+    public static String format(Date date, FastDateTimeFormatter formatter){
+    	Objects.requireNonNull(date, "date");
+    	Objects.requireNonNull(formatter, "formatter");
+    	return formatter.format(date.getTime(), ZONE);
+    }
+    
+    /**
+     * 根据 FastDateTimeFormatter格式化 epochMilli，使用系统默认时区
+     * 每个线程缓存上次的结果，同一秒或同一天内只改写变化的数字，适合日志等时间基本递增的场景
+     * @param epochMilli
+     * @param formatter 固定宽度数字格式，如：FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS_SSS
+     * @return
+     */
+    public static String format(long epochMilli, FastDateTimeFormatter formatter){
+    	Objects.requireNonNull(formatter, "formatter");
+    	return formatter.format(epochMilli, ZONE);
+    }
+    
+    /**
+     * 根据 FastDateTimeFormatter格式化 epochMilli
+     * @param epochMilli
+     * @param formatter 固定宽度数字格式，如：FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS_SSS
+     * @param zoneId 时区
+     * @return
+     */
+    public static String format(long epochMilli, FastDateTimeFormatter formatter, ZoneId zoneId){
+    	Objects.requireNonNull(formatter, "formatter");
+    	return formatter.format(epochMilli, zoneId);
+    }
+    
+    /**
+     * 根据 FastDateTimeFormatter格式化 localDateTime
+     * @param localDateTime
+     * @param formatter 固定宽度数字格式，如：FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS
+     * @return
+     */
+    public static String format(LocalDateTime localDateTime, FastDateTimeFormatter formatter){
+    	Objects.requireNonNull(formatter, "formatter");
+    	return formatter.format(localDateTime);
+    }
+    
+    /**
+     * 根据 FastDateTimeFormatter格式化 localDate
+     * @param localDate
+     * @param formatter 固定宽度数字格式，不能包含时间字段，如：FastDateTimeFormatter.YYYY_MM_DD
+     * @return
+     */
+    public static String format(LocalDate localDate, FastDateTimeFormatter formatter){
+    	Objects.requireNonNull(formatter, "formatter");
+    	return formatter.format(localDate);
+    }
+    
     //  ============================parse============================
 
     /**
@@ -439,7 +310,7 @@ public class DateTimeFormatterUtil {
      * @return
      */
     public static Date parseDateStrToDate(String text){
-    	return DateTimeConverterUtil.toDate(DateTimeConverterUtil.toLocalDateTime(YYYY_MM_DD_FMT.parse(text)));
+    	return new Date(FastDateTimeFormatter.YYYY_MM_DD.parseToEpochMilli(text, ZONE));
     }
     
     /**
@@ -448,7 +319,7 @@ public class DateTimeFormatterUtil {
      * @return
      */
     public static LocalDateTime parseDateStrToLocalDateTime(String text){
-    	return DateTimeConverterUtil.toLocalDateTime(YYYY_MM_DD_FMT.parse(text));
+    	return FastDateTimeFormatter.YYYY_MM_DD.parseToLocalDateTime(text);
     }
     
     /**
@@ -457,7 +328,7 @@ public class DateTimeFormatterUtil {
      * @return
      */
     public static Instant parseDateStrToInstant(String text){
-    	return DateTimeConverterUtil.toInstant(YYYY_MM_DD_FMT.parse(text));
+    	return Instant.ofEpochMilli(FastDateTimeFormatter.YYYY_MM_DD.parseToEpochMilli(text, ZONE));
     }
     
     /**
@@ -466,7 +337,7 @@ public class DateTimeFormatterUtil {
      * @return
      */
     public static Date parseDateTimeStrToDate(String text){
-    	return DateTimeConverterUtil.toDate(DateTimeConverterUtil.toLocalDateTime(YYYY_MM_DD_HH_MM_SS_FMT.parse(text)));
+    	return new Date(FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS.parseToEpochMilli(text, ZONE));
     }
     
     /**
@@ -475,7 +346,7 @@ public class DateTimeFormatterUtil {
      * @return
      */
     public static LocalDateTime parseDateTimeStrToLocalDateTime(String text){
-    	return DateTimeConverterUtil.toLocalDateTime(YYYY_MM_DD_HH_MM_SS_FMT.parse(text));
+    	return FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS.parseToLocalDateTime(text);
     }
     
     /**
@@ -484,7 +355,7 @@ public class DateTimeFormatterUtil {
      * @return
      */
     public static Instant parseDateTimeStrToInstant(String text){
-    	return DateTimeConverterUtil.toInstant(YYYY_MM_DD_HH_MM_SS_FMT.parse(text));
+    	return Instant.ofEpochMilli(FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS.parseToEpochMilli(text, ZONE));
     }
     
     /**
@@ -530,4 +401,77 @@ public class DateTimeFormatterUtil {
     	return ZonedDateTime.parse(text, formatter);
     }
     
+    /**
+     * 根据 pattern解析为 Date
+     * @param text
+     * @param pattern 如：yyyy-MM-dd HH:mm:ss
+     * @return
+     */
+    public static Date parseToDate(String text, String pattern){
+    	return parseToDate(text, getFormatter(pattern));
+    }
+    
+    /**
+     * 根据 pattern解析为 LocalDateTime
+     * @param text
+     * @param pattern 如：yyyy-MM-dd HH:mm:ss
+     * @return
+     */
+    public static LocalDateTime parseToLocalDateTime(String text, String pattern){
+    	return parseToLocalDateTime(text, getFormatter(pattern));
+    }
+    
+    /**
+     * 根据 pattern解析为 Instant，使用系统默认时区
+     * @param text
+     * @param pattern 如：yyyy-MM-dd HH:mm:ss
+     * @return
+     */
+    public static Instant parseToInstant(String text, String pattern){
+    	return parseToInstant(text, getFormatter(pattern));
+    }
+    
+    /**
+     * 根据 FastDateTimeFormatter解析为 Date，使用系统默认时区
+     * @param text
+     * @param formatter 固定宽度数字格式，如：FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS
+     * @return
+     */
+    public static Date parseToDate(String text, FastDateTimeFormatter formatter){
+    	Objects.requireNonNull(formatter, "formatter");
+    	return new Date(formatter.parseToEpochMilli(text, ZONE));
+    }
+    
+    /**
+     * 根据 FastDateTimeFormatter解析为 LocalDateTime
+     * @param text
+     * @param formatter 固定宽度数字格式，如：FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS
+     * @return
+     */
+    public static LocalDateTime parseToLocalDateTime(String text, FastDateTimeFormatter formatter){
+    	Objects.requireNonNull(formatter, "formatter");
+    	return formatter.parseToLocalDateTime(text);
+    }
+    
+    /**
+     * 根据 FastDateTimeFormatter解析为 Instant，使用系统默认时区
+     * @param text
+     * @param formatter 固定宽度数字格式，如：FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS
+     * @return
+     */
+    public static Instant parseToInstant(String text, FastDateTimeFormatter formatter){
+    	Objects.requireNonNull(formatter, "formatter");
+    	return Instant.ofEpochMilli(formatter.parseToEpochMilli(text, ZONE));
+    }
+    
+    /**
+     * 根据 FastDateTimeFormatter解析为 epochMilli，使用系统默认时区，不创建中间对象
+     * @param text
+     * @param formatter 固定宽度数字格式，如：FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS
+     * @return
+     */
+    public static long parseToEpochMilli(String text, FastDateTimeFormatter formatter){
+    	Objects.requireNonNull(formatter, "formatter");
+    	return formatter.parseToEpochMilli(text, ZONE);
+    }
 }
@@ -0,0 +1,776 @@
+package com.xkzhangsan.time.formatter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 固定宽度数字格式的快速格式化
+ * 只支持 yyyy、MM、dd、HH、mm、ss、SSS 和固定文字，如：yyyy-MM-dd HH:mm:ss、yyyyMMddHHmmssSSS、yyyy年MM月dd日
+ * 1.创建时把pattern编译为模板字符数组和字段位置，格式化时复制模板后按位置写入数字，不经过DateTimeFormatter的解析器链
+ * 2.结果与DateTimeFormatter.ofPattern(pattern)相同，年份不在1-9999时使用DateTimeFormatter格式化
+ * 3.parse* 按位置校验数字和固定文字，直接计算字段值并创建结果，不创建Parsed等中间对象，parseToEpochMilli 不创建任何对象（非固定偏移时区除外）
+ *   字段校验同DateTimeFormatter默认的ResolverStyle.SMART，日大于当月天数时取当月最后一天，缺少的时间字段为0
+ * 4.format(long epochMilli, ZoneId zoneId) 每个线程缓存上次的结果，同一秒只改写毫秒，同一天只改写时分秒和毫秒，适合日志等时间基本递增的场景
+ * 5.创建后不可变，线程安全
+ *
+* @ClassName: FastDateTimeFormatter
+* @Description: FastDateTimeFormatter
+* @author xkzhangsan
+* @date 2026年10月17日
+ */
+public final class FastDateTimeFormatter {
+
+	/**
+	 * 字段类型
+	 */
+	private static final int YEAR = 0;
+	private static final int MONTH = 1;
+	private static final int DAY = 2;
+	private static final int HOUR = 3;
+	private static final int MINUTE = 4;
+	private static final int SECOND = 5;
+	private static final int MILLI = 6;
+
+	/**
+	 * 年月日字段
+	 */
+	private static final int DATE_MASK = 1 << YEAR | 1 << MONTH | 1 << DAY;
+
+	/**
+	 * such as 2019
+	 */
+	public static final FastDateTimeFormatter YYYY = ofPattern("yyyy");
+
+	/**
+	 * such as 2019-12
+	 */
+	public static final FastDateTimeFormatter YYYY_MM = ofPattern("yyyy-MM");
+
+	/**
+	 * such as 201912
+	 */
+	public static final FastDateTimeFormatter YYYYMM = ofPattern("yyyyMM");
+
+	/**
+	 * such as 2019年12月
+	 */
+	public static final FastDateTimeFormatter YYYY_MM_CN = ofPattern("yyyy年MM月");
+
+	/**
+	 * such as 2019/12
+	 */
+	public static final FastDateTimeFormatter YYYY_MM_EN = ofPattern("yyyy/MM");
+
+	/**
+	 * such as 2019-12-03
+	 */
+	public static final FastDateTimeFormatter YYYY_MM_DD = ofPattern("yyyy-MM-dd");
+
+	/**
+	 * such as 20191203
+	 */
+	public static final FastDateTimeFormatter YYYYMMDD = ofPattern("yyyyMMdd");
+
+	/**
+	 * such as 2019.12.03
+	 */
+	public static final FastDateTimeFormatter YYYY_MM_DD_POINT = ofPattern("yyyy.MM.dd");
+
+	/**
+	 * such as 2019年12月03日
+	 */
+	public static final FastDateTimeFormatter YYYY_MM_DD_CN = ofPattern("yyyy年MM月dd日");
+
+	/**
+	 * such as 2019/12/03
+	 */
+	public static final FastDateTimeFormatter YYYY_MM_DD_EN = ofPattern("yyyy/MM/dd");
+
+	/**
+	 * such as 201912031010
+	 */
+	public static final FastDateTimeFormatter YYYYMMDDHHMM = ofPattern("yyyyMMddHHmm");
+
+	/**
+	 * such as 2019-12-03 10:10
+	 */
+	public static final FastDateTimeFormatter YYYY_MM_DD_HH_MM = ofPattern("yyyy-MM-dd HH:mm");
+
+	/**
+	 * such as 20191203101010
+	 */
+	public static final FastDateTimeFormatter YYYYMMDDHHMMSS = ofPattern("yyyyMMddHHmmss");
+
+	/**
+	 * such as 2019-12-03 10:10:10
+	 */
+	public static final FastDateTimeFormatter YYYY_MM_DD_HH_MM_SS = ofPattern("yyyy-MM-dd HH:mm:ss");
+
+	/**
+	 * such as 2019年12月03日 10:10:10
+	 */
+	public static final FastDateTimeFormatter YYYY_MM_DD_HH_MM_SS_CN = ofPattern("yyyy年MM月dd日 HH:mm:ss");
+
+	/**
+	 * such as 20191203101010123
+	 */
+	public static final FastDateTimeFormatter YYYYMMDDHHMMSSSSS = ofPattern("yyyyMMddHHmmssSSS");
+
+	/**
+	 * such as 2019-12-03 10:10:10.123
+	 */
+	public static final FastDateTimeFormatter YYYY_MM_DD_HH_MM_SS_SSS = ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+	/**
+	 * such as 12-03 10:10
+	 */
+	public static final FastDateTimeFormatter MM_DD_HH_MM = ofPattern("MM-dd HH:mm");
+
+	/**
+	 * such as 12月03日 10:10
+	 */
+	public static final FastDateTimeFormatter MM_DD_HH_MM_CN = ofPattern("MM月dd日 HH:mm");
+
+	/**
+	 * such as 101010
+	 */
+	public static final FastDateTimeFormatter HHMMSS = ofPattern("HHmmss");
+
+	/**
+	 * such as 10:10:10
+	 */
+	public static final FastDateTimeFormatter HH_MM_SS = ofPattern("HH:mm:ss");
+
+	/**
+	 * such as 12月03日
+	 */
+	public static final FastDateTimeFormatter MM_DD_CN = ofPattern("MM月dd日");
+
+	/**
+	 * such as 12-03
+	 */
+	public static final FastDateTimeFormatter MM_DD = ofPattern("MM-dd");
+
+	/**
+	 * such as 1203
+	 */
+	public static final FastDateTimeFormatter MMDD = ofPattern("MMdd");
+
+	/**
+	 * such as 12月03日 10:10:10
+	 */
+	public static final FastDateTimeFormatter MM_DD_HH_MM_SS_CN = ofPattern("MM月dd日 HH:mm:ss");
+
+	/**
+	 * such as 12-03 10:10:10
+	 */
+	public static final FastDateTimeFormatter MM_DD_HH_MM_SS = ofPattern("MM-dd HH:mm:ss");
+
+	private final String pattern;
+
+	/**
+	 * 模板，固定文字已写入，字段位置为0
+	 */
+	private final char[] template;
+
+	/**
+	 * 字段类型和在模板中的位置
+	 */
+	private final int[] fieldTypes;
+	private final int[] fieldOffsets;
+
+	/**
+	 * 是否包含日期字段、时间字段
+	 */
+	private final boolean hasDate;
+	private final boolean hasTime;
+
+	/**
+	 * 包含的字段，第fieldType位为1
+	 */
+	private final int fieldMask;
+
+	/**
+	 * 固定文字的位置
+	 */
+	private final int[] literalOffsets;
+
+	/**
+	 * 年份超出范围时使用，首次使用时创建
+	 */
+	private volatile DateTimeFormatter fallback;
+
+	/**
+	 * format(long, ZoneId)的线程缓存
+	 */
+	private final ThreadLocal<EpochMilliCache> epochMilliCache = ThreadLocal.withInitial(EpochMilliCache::new);
+
+	/**
+	 * 上次格式化的时区偏移、日期和秒，以及对应的结果
+	 */
+	private static final class EpochMilliCache {
+
+		private ZoneId zoneId;
+
+		/**
+		 * 时区偏移毫秒数，以及偏移有效的epochMilli范围[offsetFrom, offsetUntil)
+		 */
+		private int offsetMillis;
+		private long offsetFrom = Long.MAX_VALUE;
+		private long offsetUntil = Long.MIN_VALUE;
+
+		/**
+		 * 已写入buf的本地epochDay和秒
+		 */
+		private long epochDay = Long.MIN_VALUE;
+		private int secondOfDay = -1;
+
+		private char[] buf;
+	}
+
+	private FastDateTimeFormatter(String pattern, char[] template, int[] fieldTypes, int[] fieldOffsets) {
+		this.pattern = pattern;
+		this.template = template;
+		this.fieldTypes = fieldTypes;
+		this.fieldOffsets = fieldOffsets;
+		boolean date = false;
+		boolean time = false;
+		int mask = 0;
+		boolean[] fieldPositions = new boolean[template.length];
+		for (int n = 0; n < fieldTypes.length; n++) {
+			if (fieldTypes[n] <= DAY) {
+				date = true;
+			} else {
+				time = true;
+			}
+			mask |= 1 << fieldTypes[n];
+			for (int p = 0; p < fieldWidth(fieldTypes[n]); p++) {
+				fieldPositions[fieldOffsets[n] + p] = true;
+			}
+		}
+		this.hasDate = date;
+		this.hasTime = time;
+		this.fieldMask = mask;
+		int literalCount = 0;
+		for (boolean fieldPosition : fieldPositions) {
+			if (!fieldPosition) {
+				literalCount++;
+			}
+		}
+		this.literalOffsets = new int[literalCount];
+		for (int p = 0, n = 0; p < fieldPositions.length; p++) {
+			if (!fieldPositions[p]) {
+				literalOffsets[n++] = p;
+			}
+		}
+	}
+
+	/**
+	 * 根据pattern创建
+	 * @param pattern 只包含 yyyy、MM、dd、HH、mm、ss、SSS，其他非字母字符和单引号中的文字作为固定文字，如：yyyy-MM-dd HH:mm:ss
+	 * @return
+	 * @throws IllegalArgumentException pattern包含其他字段或字段宽度不固定
+	 */
+	public static FastDateTimeFormatter ofPattern(String pattern) {
+		Objects.requireNonNull(pattern, "pattern");
+		StringBuilder template = new StringBuilder();
+		List<int[]> fields = new ArrayList<>();
+		int i = 0;
+		while (i < pattern.length()) {
+			char c = pattern.charAt(i);
+			if (c == '\'') {
+				int end = pattern.indexOf('\'', i + 1);
+				if (end < 0) {
+					throw new IllegalArgumentException("Pattern ends with an incomplete string literal: " + pattern);
+				}
+				template.append(end == i + 1 ? "'" : pattern.substring(i + 1, end));
+				i = end + 1;
+			} else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+				int end = i;
+				while (end < pattern.length() && pattern.charAt(end) == c) {
+					end++;
+				}
+				int fieldType = fieldType(c, end - i);
+				if (fieldType < 0) {
+					throw new IllegalArgumentException("Unsupported field " + pattern.substring(i, end) + " in pattern: " + pattern);
+				}
+				fields.add(new int[] { fieldType, template.length() });
+				for (int n = 0; n < fieldWidth(fieldType); n++) {
+					template.append('0');
+				}
+				i = end;
+			} else {
+				template.append(c);
+				i++;
+			}
+		}
+		int[] fieldTypes = new int[fields.size()];
+		int[] fieldOffsets = new int[fields.size()];
+		for (int n = 0; n < fields.size(); n++) {
+			fieldTypes[n] = fields.get(n)[0];
+			fieldOffsets[n] = fields.get(n)[1];
+		}
+		return new FastDateTimeFormatter(pattern, template.toString().toCharArray(), fieldTypes, fieldOffsets);
+	}
+
+	/**
+	 * 字段类型，不支持时返回-1
+	 * @param c
+	 * @param count
+	 * @return
+	 */
+	private static int fieldType(char c, int count) {
+		switch (c) {
+		case 'y':
+			return count == 4 ? YEAR : -1;
+		case 'M':
+			return count == 2 ? MONTH : -1;
+		case 'd':
+			return count == 2 ? DAY : -1;
+		case 'H':
+			return count == 2 ? HOUR : -1;
+		case 'm':
+			return count == 2 ? MINUTE : -1;
+		case 's':
+			return count == 2 ? SECOND : -1;
+		case 'S':
+			return count == 3 ? MILLI : -1;
+		default:
+			return -1;
+		}
+	}
+
+	private static int fieldWidth(int fieldType) {
+		return fieldType == YEAR ? 4 : fieldType == MILLI ? 3 : 2;
+	}
+
+	/**
+	 * pattern
+	 * @return
+	 */
+	public String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * 格式化结果的长度
+	 * @return
+	 */
+	public int length() {
+		return template.length;
+	}
+
+	/**
+	 * 格式化localDateTime
+	 * @param localDateTime
+	 * @return
+	 */
+	public String format(LocalDateTime localDateTime) {
+		Objects.requireNonNull(localDateTime, "localDateTime");
+		int year = localDateTime.getYear();
+		if (year < 1 || year > 9999) {
+			return localDateTime.format(fallback());
+		}
+		char[] buf = template.clone();
+		write(buf, year, localDateTime.getMonthValue(), localDateTime.getDayOfMonth(), localDateTime.getHour(),
+				localDateTime.getMinute(), localDateTime.getSecond(), localDateTime.getNano() / 1000_000);
+		return new String(buf);
+	}
+
+	/**
+	 * 格式化localDate，pattern不能包含时间字段
+	 * @param localDate
+	 * @return
+	 */
+	public String format(LocalDate localDate) {
+		Objects.requireNonNull(localDate, "localDate");
+		if (hasTime) {
+			throw new UnsupportedTemporalTypeException("LocalDate does not support time fields in pattern: " + pattern);
+		}
+		int year = localDate.getYear();
+		if (year < 1 || year > 9999) {
+			return localDate.format(fallback());
+		}
+		char[] buf = template.clone();
+		write(buf, year, localDate.getMonthValue(), localDate.getDayOfMonth(), 0, 0, 0, 0);
+		return new String(buf);
+	}
+
+	/**
+	 * 格式化localTime，pattern不能包含日期字段
+	 * @param localTime
+	 * @return
+	 */
+	public String format(LocalTime localTime) {
+		Objects.requireNonNull(localTime, "localTime");
+		if (hasDate) {
+			throw new UnsupportedTemporalTypeException("LocalTime does not support date fields in pattern: " + pattern);
+		}
+		char[] buf = template.clone();
+		write(buf, 1, 1, 1, localTime.getHour(), localTime.getMinute(), localTime.getSecond(),
+				localTime.getNano() / 1000_000);
+		return new String(buf);
+	}
+
+	/**
+	 * 格式化epochMilli，每个线程缓存上次的结果，日期和秒不变时只改写变化的数字
+	 * @param epochMilli
+	 * @param zoneId 时区，如：ZoneId.systemDefault()
+	 * @return
+	 */
+	public String format(long epochMilli, ZoneId zoneId) {
+		Objects.requireNonNull(zoneId, "zoneId");
+		EpochMilliCache cache = epochMilliCache.get();
+		if (epochMilli < cache.offsetFrom || epochMilli >= cache.offsetUntil || !zoneId.equals(cache.zoneId)) {
+			updateOffset(cache, epochMilli, zoneId);
+		}
+		long localMilli = epochMilli + cache.offsetMillis;
+		long epochDay = Math.floorDiv(localMilli, 86400_000L);
+		int milliOfDay = (int) (localMilli - epochDay * 86400_000L);
+		int secondOfDay = milliOfDay / 1000;
+		if (epochDay != cache.epochDay) {
+			LocalDate localDate = LocalDate.ofEpochDay(epochDay);
+			if (localDate.getYear() < 1 || localDate.getYear() > 9999) {
+				return LocalDateTime.of(localDate, LocalTime.ofNanoOfDay(milliOfDay * 1000_000L)).format(fallback());
+			}
+			if (cache.buf == null) {
+				cache.buf = template.clone();
+			}
+			write(cache.buf, YEAR, DAY, localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth(), 0, 0,
+					0, 0);
+			cache.epochDay = epochDay;
+			cache.secondOfDay = -1;
+		}
+		if (secondOfDay != cache.secondOfDay) {
+			write(cache.buf, HOUR, SECOND, 0, 0, 0, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, 0);
+			cache.secondOfDay = secondOfDay;
+		}
+		write(cache.buf, MILLI, MILLI, 0, 0, 0, 0, 0, 0, milliOfDay % 1000);
+		return new String(cache.buf);
+	}
+
+	/**
+	 * 计算epochMilli的时区偏移和偏移不变的范围
+	 * @param cache
+	 * @param epochMilli
+	 * @param zoneId
+	 */
+	private static void updateOffset(EpochMilliCache cache, long epochMilli, ZoneId zoneId) {
+		ZoneRules rules = zoneId.getRules();
+		Instant instant = Instant.ofEpochMilli(epochMilli);
+		int offsetMillis = rules.getOffset(instant).getTotalSeconds() * 1000;
+		long from = Long.MIN_VALUE;
+		long until = Long.MAX_VALUE;
+		if (!rules.isFixedOffset()) {
+			ZoneOffsetTransition previous = rules.previousTransition(instant.plusMillis(1));
+			ZoneOffsetTransition next = rules.nextTransition(instant);
+			if (previous != null) {
+				from = previous.getInstant().toEpochMilli();
+			}
+			if (next != null) {
+				until = next.getInstant().toEpochMilli();
+			}
+		}
+		cache.zoneId = zoneId;
+		cache.offsetMillis = offsetMillis;
+		cache.offsetFrom = from;
+		cache.offsetUntil = until;
+	}
+
+	/**
+	 * 格式化localDateTime，追加到stringBuilder
+	 * @param localDateTime
+	 * @param stringBuilder
+	 */
+	public void formatTo(LocalDateTime localDateTime, StringBuilder stringBuilder) {
+		Objects.requireNonNull(localDateTime, "localDateTime");
+		Objects.requireNonNull(stringBuilder, "stringBuilder");
+		int year = localDateTime.getYear();
+		if (year < 1 || year > 9999) {
+			fallback().formatTo(localDateTime, stringBuilder);
+			return;
+		}
+		char[] buf = template.clone();
+		write(buf, year, localDateTime.getMonthValue(), localDateTime.getDayOfMonth(), localDateTime.getHour(),
+				localDateTime.getMinute(), localDateTime.getSecond(), localDateTime.getNano() / 1000_000);
+		stringBuilder.append(buf);
+	}
+
+	/**
+	 * 按字段位置写入数字
+	 * @param buf 模板的副本
+	 * @param year 1-9999
+	 * @param month
+	 * @param day
+	 * @param hour
+	 * @param minute
+	 * @param second
+	 * @param milli
+	 */
+	private void write(char[] buf, int year, int month, int day, int hour, int minute, int second, int milli) {
+		write(buf, YEAR, MILLI, year, month, day, hour, minute, second, milli);
+	}
+
+	/**
+	 * 只写入类型在fromType到toType之间的字段
+	 */
+	private void write(char[] buf, int fromType, int toType, int year, int month, int day, int hour, int minute,
+			int second, int milli) {
+		for (int n = 0; n < fieldTypes.length; n++) {
+			if (fieldTypes[n] < fromType || fieldTypes[n] > toType) {
+				continue;
+			}
+			int p = fieldOffsets[n];
+			switch (fieldTypes[n]) {
+			case YEAR:
+				buf[p] = (char) ('0' + year / 1000);
+				buf[p + 1] = (char) ('0' + year / 100 % 10);
+				buf[p + 2] = (char) ('0' + year / 10 % 10);
+				buf[p + 3] = (char) ('0' + year % 10);
+				break;
+			case MONTH:
+				writeTwoDigits(buf, p, month);
+				break;
+			case DAY:
+				writeTwoDigits(buf, p, day);
+				break;
+			case HOUR:
+				writeTwoDigits(buf, p, hour);
+				break;
+			case MINUTE:
+				writeTwoDigits(buf, p, minute);
+				break;
+			case SECOND:
+				writeTwoDigits(buf, p, second);
+				break;
+			default:
+				buf[p] = (char) ('0' + milli / 100);
+				buf[p + 1] = (char) ('0' + milli / 10 % 10);
+				buf[p + 2] = (char) ('0' + milli % 10);
+			}
+		}
+	}
+
+	private static void writeTwoDigits(char[] buf, int p, int value) {
+		buf[p] = (char) ('0' + value / 10);
+		buf[p + 1] = (char) ('0' + value % 10);
+	}
+
+	/**
+	 * 解析为LocalDateTime，pattern必须包含年月日
+	 * @param text
+	 * @return
+	 * @throws DateTimeParseException 格式不匹配或字段值无效
+	 */
+	public LocalDateTime parseToLocalDateTime(CharSequence text) {
+		long fields = parseFields(text, DATE_MASK, "LocalDateTime");
+		return LocalDateTime.of(year(fields), month(fields), day(fields), hour(fields), minute(fields), second(fields),
+				milli(fields) * 1000_000);
+	}
+
+	/**
+	 * 解析为LocalDate，pattern必须包含年月日，忽略时间字段
+	 * @param text
+	 * @return
+	 * @throws DateTimeParseException 格式不匹配或字段值无效
+	 */
+	public LocalDate parseToLocalDate(CharSequence text) {
+		long fields = parseFields(text, DATE_MASK, "LocalDate");
+		return LocalDate.of(year(fields), month(fields), day(fields));
+	}
+
+	/**
+	 * 解析为LocalTime，pattern必须包含小时，忽略日期字段
+	 * @param text
+	 * @return
+	 * @throws DateTimeParseException 格式不匹配或字段值无效
+	 */
+	public LocalTime parseToLocalTime(CharSequence text) {
+		long fields = parseFields(text, 1 << HOUR, "LocalTime");
+		return LocalTime.of(hour(fields), minute(fields), second(fields), milli(fields) * 1000_000);
+	}
+
+	/**
+	 * 解析为epochMilli，pattern必须包含年月日
+	 * @param text
+	 * @param zoneId 时区，如：ZoneId.systemDefault()
+	 * @return
+	 * @throws DateTimeParseException 格式不匹配或字段值无效
+	 */
+	public long parseToEpochMilli(CharSequence text, ZoneId zoneId) {
+		Objects.requireNonNull(zoneId, "zoneId");
+		long fields = parseFields(text, DATE_MASK, "Instant");
+		ZoneRules rules = zoneId.getRules();
+		if (!rules.isFixedOffset()) {
+			return LocalDateTime.of(year(fields), month(fields), day(fields), hour(fields), minute(fields),
+					second(fields), milli(fields) * 1000_000).atZone(zoneId).toInstant().toEpochMilli();
+		}
+		ZoneOffset offset = zoneId instanceof ZoneOffset ? (ZoneOffset) zoneId : rules.getOffset(Instant.EPOCH);
+		long epochSecond = toEpochDay(year(fields), month(fields), day(fields)) * 86400 + hour(fields) * 3600
+				+ minute(fields) * 60 + second(fields) - offset.getTotalSeconds();
+		return epochSecond * 1000 + milli(fields);
+	}
+
+	/**
+	 * 解析字段，结果按 年14位、月4位、日5位、时5位、分6位、秒6位、毫秒10位 保存在long中，不包含的字段为0，日已按当月天数调整
+	 * @param text
+	 * @param requiredMask 必须包含的字段
+	 * @param type 结果类型，用于错误信息
+	 * @return
+	 */
+	private long parseFields(CharSequence text, int requiredMask, String type) {
+		Objects.requireNonNull(text, "text");
+		if ((fieldMask & requiredMask) != requiredMask) {
+			throw new DateTimeParseException("Unable to obtain " + type + " from pattern: " + pattern, text, 0);
+		}
+		if (text.length() != template.length) {
+			throw new DateTimeParseException("Text '" + text + "' could not be parsed with pattern: " + pattern, text,
+					Math.min(text.length(), template.length));
+		}
+		for (int p : literalOffsets) {
+			if (text.charAt(p) != template[p]) {
+				throw new DateTimeParseException("Text '" + text + "' could not be parsed at index " + p, text, p);
+			}
+		}
+		int year = 0;
+		int month = 1;
+		int day = 1;
+		int hour = 0;
+		int minute = 0;
+		int second = 0;
+		int milli = 0;
+		for (int n = 0; n < fieldTypes.length; n++) {
+			int p = fieldOffsets[n];
+			int value = 0;
+			for (int end = p + fieldWidth(fieldTypes[n]); p < end; p++) {
+				int digit = text.charAt(p) - '0';
+				if (digit < 0 || digit > 9) {
+					throw new DateTimeParseException("Text '" + text + "' could not be parsed at index " + p, text, p);
+				}
+				value = value * 10 + digit;
+			}
+			switch (fieldTypes[n]) {
+			case YEAR:
+				year = value;
+				break;
+			case MONTH:
+				month = value;
+				break;
+			case DAY:
+				day = value;
+				break;
+			case HOUR:
+				hour = value;
+				break;
+			case MINUTE:
+				minute = value;
+				break;
+			case SECOND:
+				second = value;
+				break;
+			default:
+				milli = value;
+			}
+		}
+		if (((fieldMask & 1 << YEAR) != 0 && year < 1) || month < 1 || month > 12 || day < 1 || day > 31 || hour > 23
+				|| minute > 59 || second > 59) {
+			throw new DateTimeParseException("Text '" + text + "' could not be parsed, invalid field value", text, 0);
+		}
+		if (day > 28) {
+			day = Math.min(day, lengthOfMonth(year, month));
+		}
+		return (long) year << 36 | (long) month << 32 | (long) day << 27 | (long) hour << 22 | (long) minute << 16
+				| (long) second << 10 | milli;
+	}
+
+	private static int year(long fields) {
+		return (int) (fields >>> 36);
+	}
+
+	private static int month(long fields) {
+		return (int) (fields >>> 32) & 0xF;
+	}
+
+	private static int day(long fields) {
+		return (int) (fields >>> 27) & 0x1F;
+	}
+
+	private static int hour(long fields) {
+		return (int) (fields >>> 22) & 0x1F;
+	}
+
+	private static int minute(long fields) {
+		return (int) (fields >>> 16) & 0x3F;
+	}
+
+	private static int second(long fields) {
+		return (int) (fields >>> 10) & 0x3F;
+	}
+
+	private static int milli(long fields) {
+		return (int) fields & 0x3FF;
+	}
+
+	private static int lengthOfMonth(int year, int month) {
+		if (month == 2) {
+			return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+		}
+		return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+	}
+
+	/**
+	 * 公历年月日的epochDay，算法同LocalDate.toEpochDay
+	 * @param year
+	 * @param month
+	 * @param day
+	 * @return
+	 */
+	private static long toEpochDay(int year, int month, int day) {
+		long y = year;
+		long total = 365 * y;
+		if (y >= 0) {
+			total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+		} else {
+			total -= y / -4 - y / -100 + y / -400;
+		}
+		total += (367 * month - 362) / 12;
+		total += day - 1;
+		if (month > 2) {
+			total--;
+			if (lengthOfMonth(year, 2) == 28) {
+				total--;
+			}
+		}
+		return total - 719528;
+	}
+
+	/**
+	 * 同pattern的DateTimeFormatter
+	 * @return
+	 */
+	private DateTimeFormatter fallback() {
+		DateTimeFormatter formatter = fallback;
+		if (formatter == null) {
+			formatter = DateTimeFormatter.ofPattern(pattern);
+			fallback = formatter;
+		}
+		return formatter;
+	}
+
+	@Override
+	public String toString() {
+		return pattern;
+	}
+}
@@ -0,0 +1,506 @@
+package com.xkzhangsan.time.holiday;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.xkzhangsan.time.utils.CollectionUtil;
+
+/**
+ * 工作日索引
+ * 非工作日包括周六周日，以及传入的公历、农历节日数据中的节日，节日数据格式同Holiday，分别通过HolidayRuleSet和ChineseHolidayRuleSet编译
+ * 1.公历1900-2100年，按年依次生成非工作日位图long[]，每个long保存64天
+ * 2.按long累计非工作日数量，统计区间工作日数量为常数时间，增加工作日数为二分查找加位运算
+ * 3.创建后不可变，线程安全
+ * 4.调休，withAdjustedDays 在位图上覆盖指定的上班日和放假日，返回新的索引，查询仍为常数时间
+ * 5.ofOfficial() 中国大陆官方放假调休安排，读取holiday/adjusted/years.txt中列出的年份的{year}.txt，目前为2020-2025年，文件格式：
+ *   2020-01-19 W 春节调休上班
+ *   2020-01-24~2020-02-02 H 春节
+ *   每行为日期或日期区间（~连接），H放假，W上班，其后为说明，#开头为注释
+ * 6.isAdjustedYear(year) 是否包含该年的调休数据，没有调休数据的年份只按周末和节日数据计算，官方安排发布前的年份结果可能不准确
+ *
+* @ClassName: BusinessDayIndex
+* @Description: BusinessDayIndex
+* @author xkzhangsan
+* @date 2026年10月17日
+ */
+public final class BusinessDayIndex {
+
+	/**
+	 * 支持的年份范围
+	 */
+	public static final int MIN_YEAR = 1900;
+	public static final int MAX_YEAR = 2100;
+
+	private static final BusinessDayIndex WEEKEND = new BusinessDayIndex((HolidayRuleSet) null, null);
+
+	/**
+	 * 官方放假调休安排文件目录
+	 */
+	private static final String ADJUSTED_DAYS_PATH = "adjusted/";
+
+	/**
+	 * 官方放假调休安排年份列表文件
+	 */
+	private static final String ADJUSTED_YEARS_FILE = ADJUSTED_DAYS_PATH + "years.txt";
+
+	/**
+	 * 第一天的epochDay，1900-01-01
+	 */
+	private final int startEpochDay;
+
+	/**
+	 * 天数
+	 */
+	private final int length;
+
+	/**
+	 * 非工作日位图，第i位表示startEpochDay+i是否为非工作日
+	 */
+	private final long[] bits;
+
+	/**
+	 * bits[i]之前的非工作日数量
+	 */
+	private final int[] prefix;
+
+	/**
+	 * 有调休数据的年份位图，第i位表示MIN_YEAR+i年
+	 */
+	private final long[] adjustedYears;
+
+	/**
+	 * 创建工作日索引
+	 * @param localHolidayMap 放假的公历节日，格式同Holiday.getLocalHoliday，如："0101" 元旦，为null时没有公历节日
+	 * @param chineseHolidayMap 放假的农历节日，格式同Holiday.getChineseHoliday，如："0101" 春节，除夕 用CHUXI表示，为null时没有农历节日
+	 */
+	public BusinessDayIndex(Map<String, String> localHolidayMap, Map<String, String> chineseHolidayMap) {
+		this(CollectionUtil.isEmpty(localHolidayMap) ? null : HolidayRuleSet.compile(localHolidayMap),
+				CollectionUtil.isEmpty(chineseHolidayMap) ? null : ChineseHolidayRuleSet.compile(chineseHolidayMap));
+	}
+
+	/**
+	 * 从已编译的节日规则创建工作日索引，用于HolidayCalendar复用已编译的规则
+	 * @param localRuleSet 放假的公历节日，为null时没有公历节日
+	 * @param chineseRuleSet 放假的农历节日，为null时没有农历节日
+	 */
+	BusinessDayIndex(HolidayRuleSet localRuleSet, ChineseHolidayRuleSet chineseRuleSet) {
+		startEpochDay = (int) LocalDate.of(MIN_YEAR, 1, 1).toEpochDay();
+		length = (int) LocalDate.of(MAX_YEAR + 1, 1, 1).toEpochDay() - startEpochDay;
+		bits = new long[(length + 63) >>> 6];
+		adjustedYears = new long[(MAX_YEAR - MIN_YEAR + 64) >>> 6];
+		int yearStart = 0;
+		for (int year = MIN_YEAR; year <= MAX_YEAR; year++) {
+			int yearLength = Year.isLeap(year) ? 366 : 365;
+			// 1月1日是星期几，1-7
+			int dayOfWeek = LocalDate.of(year, 1, 1).getDayOfWeek().getValue();
+			for (int dayOfYear = 1; dayOfYear <= yearLength; dayOfYear++) {
+				if (dayOfWeek >= DayOfWeek.SATURDAY.getValue()
+						|| (localRuleSet != null && !localRuleSet.getHoliday(year, dayOfYear).isEmpty())) {
+					set(yearStart + dayOfYear - 1);
+				}
+				dayOfWeek = dayOfWeek == 7 ? 1 : dayOfWeek + 1;
+			}
+			yearStart += yearLength;
+		}
+		if (chineseRuleSet != null) {
+			markChineseHoliday(chineseRuleSet);
+		}
+		prefix = prefixOf(bits);
+	}
+
+	private BusinessDayIndex(int startEpochDay, int length, long[] bits, long[] adjustedYears) {
+		this.startEpochDay = startEpochDay;
+		this.length = length;
+		this.bits = bits;
+		this.prefix = prefixOf(bits);
+		this.adjustedYears = adjustedYears;
+	}
+
+	/**
+	 * 从非工作日位图创建，用于读取HolidayCalendarFile
+	 * @param startEpochDay
+	 * @param length
+	 * @param bits
+	 * @param adjustedYears
+	 * @return
+	 */
+	static BusinessDayIndex ofBits(int startEpochDay, int length, long[] bits, long[] adjustedYears) {
+		if (startEpochDay != WEEKEND.startEpochDay || length != WEEKEND.length || bits.length != WEEKEND.bits.length
+				|| adjustedYears.length != WEEKEND.adjustedYears.length) {
+			throw new IllegalArgumentException("BusinessDayIndex only support year " + MIN_YEAR + " to " + MAX_YEAR);
+		}
+		return new BusinessDayIndex(startEpochDay, length, bits, adjustedYears);
+	}
+
+	/**
+	 * 非工作日位图，不复制，调用方不能修改
+	 * @return
+	 */
+	long[] bits() {
+		return bits;
+	}
+
+	/**
+	 * 有调休数据的年份位图，不复制，调用方不能修改
+	 * @return
+	 */
+	long[] adjustedYears() {
+		return adjustedYears;
+	}
+
+	/**
+	 * 是否包含year年的调休数据，通过withAdjustedDays或ofOfficial()加入
+	 * 返回false时该年只按周末和节日数据计算，如官方放假安排尚未收录的年份
+	 * @param year
+	 * @return
+	 */
+	public boolean isAdjustedYear(int year) {
+		return year >= MIN_YEAR && year <= MAX_YEAR && isSet(adjustedYears, year - MIN_YEAR);
+	}
+
+	/**
+	 * 有调休数据的年份，升序
+	 * @return
+	 */
+	public List<Integer> getAdjustedYears() {
+		List<Integer> years = new ArrayList<>();
+		for (int year = MIN_YEAR; year <= MAX_YEAR; year++) {
+			if (isAdjustedYear(year)) {
+				years.add(year);
+			}
+		}
+		return years;
+	}
+
+	/**
+	 * 按long累计非工作日数量
+	 * @param bits
+	 * @return
+	 */
+	private static int[] prefixOf(long[] bits) {
+		int[] prefix = new int[bits.length + 1];
+		for (int i = 0; i < bits.length; i++) {
+			prefix[i + 1] = prefix[i] + Long.bitCount(bits[i]);
+		}
+		return prefix;
+	}
+
+	/**
+	 * 只包含周六周日的工作日索引
+	 * @return
+	 */
+	public static BusinessDayIndex ofWeekend() {
+		return WEEKEND;
+	}
+
+	/**
+	 * 中国大陆官方放假调休安排，周六周日加上years.txt中列出年份的调休文件，首次调用时加载
+	 * 已收录的年份见getAdjustedYears()，其他年份只按周末计算
+	 * @return
+	 */
+	public static BusinessDayIndex ofOfficial() {
+		return OfficialHolder.OFFICIAL;
+	}
+
+	/**
+	 * 官方放假调休安排，延迟加载
+	 */
+	private static final class OfficialHolder {
+
+		private static final BusinessDayIndex OFFICIAL = loadOfficial();
+
+		private static BusinessDayIndex loadOfficial() {
+			long[] bits = WEEKEND.bits.clone();
+			long[] adjustedYears = WEEKEND.adjustedYears.clone();
+			for (String year : readAdjustedYears()) {
+				String path = ADJUSTED_DAYS_PATH + year + ".txt";
+				InputStream resource = BusinessDayIndex.class.getResourceAsStream(path);
+				if (resource == null) {
+					throw new IllegalStateException(path + " is listed in " + ADJUSTED_YEARS_FILE + " but not found");
+				}
+				try {
+					WEEKEND.readAdjustedDays(resource, bits, adjustedYears);
+				} catch (IOException e) {
+					throw new IllegalStateException("load " + path + " error", e);
+				}
+			}
+			return new BusinessDayIndex(WEEKEND.startEpochDay, WEEKEND.length, bits, adjustedYears);
+		}
+
+		/**
+		 * 读取年份列表文件
+		 * @return
+		 */
+		private static List<String> readAdjustedYears() {
+			List<String> years = new ArrayList<>();
+			InputStream resource = BusinessDayIndex.class.getResourceAsStream(ADJUSTED_YEARS_FILE);
+			if (resource == null) {
+				return years;
+			}
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					line = line.trim();
+					if (!line.isEmpty() && line.charAt(0) != '#') {
+						years.add(line);
+					}
+				}
+			} catch (IOException e) {
+				throw new IllegalStateException("load " + ADJUSTED_YEARS_FILE + " error", e);
+			}
+			return years;
+		}
+	}
+
+	/**
+	 * 调休，在当前索引上覆盖上班日和放假日，返回新的索引，同一天同时出现时以放假为准
+	 * 日期所在年份记为有调休数据，见isAdjustedYear
+	 * @param workDays 调休上班的日期，如周末补班，可以为null
+	 * @param holidays 调休放假的日期，可以为null
+	 * @return
+	 */
+	public BusinessDayIndex withAdjustedDays(Collection<LocalDate> workDays, Collection<LocalDate> holidays) {
+		long[] newBits = bits.clone();
+		long[] newAdjustedYears = adjustedYears.clone();
+		if (workDays != null) {
+			for (LocalDate workDay : workDays) {
+				clear(newBits, indexOf(workDay));
+				set(newAdjustedYears, workDay.getYear() - MIN_YEAR);
+			}
+		}
+		if (holidays != null) {
+			for (LocalDate holiday : holidays) {
+				set(newBits, indexOf(holiday));
+				set(newAdjustedYears, holiday.getYear() - MIN_YEAR);
+			}
+		}
+		return new BusinessDayIndex(startEpochDay, length, newBits, newAdjustedYears);
+	}
+
+	/**
+	 * 调休，从调休文件读取上班日和放假日覆盖当前索引，返回新的索引，文件格式同ofOfficial()，UTF-8编码，读取后关闭
+	 * @param inputStream
+	 * @return
+	 */
+	public BusinessDayIndex withAdjustedDays(InputStream inputStream) {
+		Objects.requireNonNull(inputStream, "inputStream");
+		long[] newBits = bits.clone();
+		long[] newAdjustedYears = adjustedYears.clone();
+		try {
+			readAdjustedDays(inputStream, newBits, newAdjustedYears);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return new BusinessDayIndex(startEpochDay, length, newBits, newAdjustedYears);
+	}
+
+	/**
+	 * 读取调休文件，按行覆盖位图，并记录出现的年份
+	 * @param inputStream
+	 * @param target
+	 * @param targetYears
+	 * @throws IOException
+	 */
+	private void readAdjustedDays(InputStream inputStream, long[] target, long[] targetYears) throws IOException {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+			String line;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				line = line.trim();
+				if (line.isEmpty() || line.charAt(0) == '#') {
+					continue;
+				}
+				String[] arr = line.split("\\s+", 3);
+				if (arr.length < 2 || !("H".equals(arr[1]) || "W".equals(arr[1]))) {
+					throw new DateTimeException("adjusted days line " + lineNumber + " is invalid: " + line);
+				}
+				int separator = arr[0].indexOf('~');
+				LocalDate start = LocalDate.parse(separator < 0 ? arr[0] : arr[0].substring(0, separator));
+				LocalDate end = separator < 0 ? start : LocalDate.parse(arr[0].substring(separator + 1));
+				for (int year = start.getYear(); year <= end.getYear(); year++) {
+					set(targetYears, year - MIN_YEAR);
+				}
+				for (int index = indexOf(start), endIndex = indexOf(end); index <= endIndex; index++) {
+					if ("H".equals(arr[1])) {
+						set(target, index);
+					} else {
+						clear(target, index);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * 标记农历节日，不包括闰月
+	 * @param chineseRuleSet
+	 */
+	private void markChineseHoliday(ChineseHolidayRuleSet chineseRuleSet) {
+		for (int i = 0; i < length; i++) {
+			if (!chineseRuleSet.getHoliday(startEpochDay + i).isEmpty()) {
+				set(i);
+			}
+		}
+	}
+
+	private void set(int index) {
+		set(bits, index);
+	}
+
+	private static void set(long[] bits, int index) {
+		bits[index >>> 6] |= 1L << (index & 63);
+	}
+
+	private static void clear(long[] bits, int index) {
+		bits[index >>> 6] &= ~(1L << (index & 63));
+	}
+
+	/**
+	 * 日期在位图中的位置
+	 * @param localDate
+	 * @return
+	 */
+	private int indexOf(LocalDate localDate) {
+		Objects.requireNonNull(localDate, "localDate");
+		long index = localDate.toEpochDay() - startEpochDay;
+		if (index < 0 || index >= length) {
+			throw new DateTimeException("BusinessDayIndex only support year " + MIN_YEAR + " to " + MAX_YEAR);
+		}
+		return (int) index;
+	}
+
+	/**
+	 * 区间边界在位图中的位置，可以为最后一天的下一天
+	 * @param localDate
+	 * @return
+	 */
+	private int boundOf(LocalDate localDate) {
+		Objects.requireNonNull(localDate, "localDate");
+		return localDate.toEpochDay() - startEpochDay == length ? length : indexOf(localDate);
+	}
+
+	/**
+	 * 位置index之前的非工作日数量，index可以为length
+	 * @param index
+	 * @return
+	 */
+	private int rank(int index) {
+		int word = index >>> 6;
+		int count = prefix[word];
+		if ((index & 63) != 0) {
+			count += Long.bitCount(bits[word] & ((1L << (index & 63)) - 1));
+		}
+		return count;
+	}
+
+	/**
+	 * 位置index之前的工作日数量
+	 * @param index
+	 * @return
+	 */
+	private int workRank(int index) {
+		return index - rank(index);
+	}
+
+	private boolean isSet(int index) {
+		return isSet(bits, index);
+	}
+
+	private static boolean isSet(long[] bits, int index) {
+		return (bits[index >>> 6] & (1L << (index & 63))) != 0;
+	}
+
+	/**
+	 * 是否为工作日
+	 * @param localDate
+	 * @return
+	 */
+	public boolean isBusinessDay(LocalDate localDate) {
+		return !isSet(indexOf(localDate));
+	}
+
+	/**
+	 * 区间内工作日数量，endExclusive早于startInclusive时为负数
+	 * @param startInclusive
+	 * @param endExclusive
+	 * @return
+	 */
+	public int countBusinessDays(LocalDate startInclusive, LocalDate endExclusive) {
+		return workRank(boundOf(endExclusive)) - workRank(boundOf(startInclusive));
+	}
+
+	/**
+	 * 增加工作日数
+	 * days大于0时返回之后第days个工作日，小于0时返回之前第-days个工作日，等于0时返回localDate
+	 * @param localDate
+	 * @param days
+	 * @return
+	 */
+	public LocalDate plusBusinessDays(LocalDate localDate, int days) {
+		int index = indexOf(localDate);
+		if (days == 0) {
+			return localDate;
+		}
+		// 目标为第target个工作日，从0开始
+		long target = days > 0 ? (long) workRank(index + 1) + days - 1 : (long) workRank(index) + days;
+		if (target < 0 || target >= workRank(length)) {
+			throw new DateTimeException("BusinessDayIndex only support year " + MIN_YEAR + " to " + MAX_YEAR);
+		}
+		return LocalDate.ofEpochDay(startEpochDay + select((int) target));
+	}
+
+	/**
+	 * 下一个工作日，不包括localDate
+	 * @param localDate
+	 * @return
+	 */
+	public LocalDate nextBusinessDay(LocalDate localDate) {
+		return plusBusinessDays(localDate, 1);
+	}
+
+	/**
+	 * 上一个工作日，不包括localDate
+	 * @param localDate
+	 * @return
+	 */
+	public LocalDate previousBusinessDay(LocalDate localDate) {
+		return plusBusinessDays(localDate, -1);
+	}
+
+	/**
+	 * 第n个工作日的位置，从0开始，二分查找所在的long
+	 * @param n
+	 * @return
+	 */
+	private int select(int n) {
+		int low = 0;
+		int high = bits.length - 1;
+		while (low < high) {
+			int mid = (low + high + 1) >>> 1;
+			if (((mid << 6) - prefix[mid]) <= n) {
+				low = mid;
+			} else {
+				high = mid - 1;
+			}
+		}
+		long work = ~bits[low];
+		for (int remaining = n - ((low << 6) - prefix[low]); remaining > 0; remaining--) {
+			work &= work - 1;
+		}
+		return (low << 6) + Long.numberOfTrailingZeros(work);
+	}
+}
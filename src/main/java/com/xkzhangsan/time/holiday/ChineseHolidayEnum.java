@@ -11,7 +11,7 @@ import com.xkzhangsan.time.LunarDate;
 /**
  * 农历节日处理
  * 
- * 农历相关，仅支持公历1901-1950年的农历
+ * 农历相关，支持农历1900-2100年的农历
 * @ClassName: ChineseHolidayEnum 
 * @Description: ChineseHolidayEnum
 * @author xkzhangsan
@@ -79,12 +79,12 @@ public enum ChineseHolidayEnum implements Holiday{
 	}
 	
 	/**
-	 * 根据时间获取农历节日名称
+	 * 根据时间获取农历节日名称，读取默认节日日历HolidayCalendar.getDefault()
 	 * @param temporal
 	 * @return
 	 */
 	public static String getHolidayName(Temporal temporal) {
-		return Holiday.getChineseHoliday(temporal, convertToMap());
+		return HolidayCalendar.getDefault().getChineseHoliday(temporal);
 	}
 	
 	/**
@@ -0,0 +1,213 @@
+package com.xkzhangsan.time.holiday;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import com.xkzhangsan.time.LunarDate;
+import com.xkzhangsan.time.constants.Constant;
+
+/**
+ * 编译后的农历节日规则
+ * 规则格式同Holiday.getChineseHoliday的chineseHolidayMap，如："0101" 春节，除夕 用CHUXI表示
+ * 1.compile(Map) 一次计算农历1900-2100年所有节日（包括每年除夕）对应的公历epochDay
+ * 2.epochDay保存在开放寻址哈希表中，getHoliday 为数组探测，不创建对象
+ * 3.闰月不算节日，同一天多个节日按map的遍历顺序拼接
+ * 4.between 区间查询，另外按epochDay升序保存所有节日，二分查找开始位置后顺序读取
+ *
+* @ClassName: ChineseHolidayRuleSet
+* @Description: ChineseHolidayRuleSet
+* @author xkzhangsan
+* @date 2026年10月17日
+ */
+public final class ChineseHolidayRuleSet {
+
+	/**
+	 * 空槽位
+	 */
+	private static final int EMPTY = Integer.MIN_VALUE;
+
+	/**
+	 * 默认农历节日，ChineseHolidayEnum
+	 */
+	private static final ChineseHolidayRuleSet DEFAULT = compile(ChineseHolidayEnum.convertToMap());
+
+	/**
+	 * 节日的epochDay和名称，容量为2的幂
+	 */
+	private final int[] keys;
+	private final String[] values;
+	private final int mask;
+
+	/**
+	 * 按epochDay升序的节日和名称
+	 */
+	private final int[] sortedEpochDays;
+	private final String[] sortedNames;
+
+	private ChineseHolidayRuleSet(List<Integer> epochDays, List<String> names) {
+		sortedEpochDays = new int[epochDays.size()];
+		for (int i = 0; i < sortedEpochDays.length; i++) {
+			sortedEpochDays[i] = epochDays.get(i);
+		}
+		sortedNames = names.toArray(new String[names.size()]);
+		int capacity = Integer.highestOneBit(Math.max(epochDays.size(), 1) * 2 - 1) << 1;
+		keys = new int[capacity];
+		values = new String[capacity];
+		mask = capacity - 1;
+		Arrays.fill(keys, EMPTY);
+		for (int i = 0; i < epochDays.size(); i++) {
+			int epochDay = epochDays.get(i);
+			int slot = hash(epochDay) & mask;
+			while (keys[slot] != EMPTY) {
+				slot = (slot + 1) & mask;
+			}
+			keys[slot] = epochDay;
+			values[slot] = names.get(i);
+		}
+	}
+
+	/**
+	 * 默认农历节日规则，ChineseHolidayEnum
+	 * @return
+	 */
+	public static ChineseHolidayRuleSet getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * 编译农历节日规则
+	 * @param chineseHolidayMap 自定义节日数据，特殊节日如除夕 用CHUXI表示
+	 * @return
+	 */
+	public static ChineseHolidayRuleSet compile(Map<String, String> chineseHolidayMap) {
+		Objects.requireNonNull(chineseHolidayMap, "chineseHolidayMap");
+		// 规则，农历月日如101，CHUXI为0
+		List<Integer> rules = new ArrayList<>();
+		List<String> ruleNames = new ArrayList<>();
+		for (Entry<String, String> entry : chineseHolidayMap.entrySet()) {
+			String key = entry.getKey();
+			if (Constant.CHUXI.equals(key)) {
+				rules.add(0);
+				ruleNames.add(entry.getValue());
+			} else if (key != null && key.length() == 4 && key.chars().allMatch(Character::isDigit)) {
+				rules.add(Integer.parseInt(key));
+				ruleNames.add(entry.getValue());
+			}
+		}
+
+		int start = (int) LunarDate.minSupportedDate().toEpochDay();
+		int[] epochDays = new int[(int) LunarDate.maxSupportedDate().toEpochDay() - start + 1];
+		for (int i = 0; i < epochDays.length; i++) {
+			epochDays[i] = start + i;
+		}
+		int[] lunarValues = new int[epochDays.length];
+		LunarDate.toLunarValues(epochDays, lunarValues);
+
+		List<Integer> holidayEpochDays = new ArrayList<>();
+		List<String> names = new ArrayList<>();
+		for (int i = 0; i < lunarValues.length; i++) {
+			int value = lunarValues[i];
+			if (LunarDate.unpackLeap(value)) {
+				continue;
+			}
+			int monthDay = LunarDate.unpackMonth(value) * 100 + LunarDate.unpackDay(value);
+			// 农历月最少29天，只有腊月29日和30日需要按月长度判断是否为除夕
+			boolean chuxi = LunarDate.unpackMonth(value) == 12 && LunarDate.unpackDay(value) >= 29
+					&& isChuxi(LunarDate.from(LocalDate.ofEpochDay(epochDays[i])));
+			String holiday = null;
+			for (int r = 0; r < rules.size(); r++) {
+				int rule = rules.get(r);
+				if (rule == monthDay || (rule == 0 && chuxi)) {
+					holiday = (holiday == null ? "" : holiday) + " " + ruleNames.get(r);
+				}
+			}
+			if (holiday != null) {
+				holidayEpochDays.add(epochDays[i]);
+				names.add(holiday);
+			}
+		}
+		return new ChineseHolidayRuleSet(holidayEpochDays, names);
+	}
+
+	/**
+	 * 是否为除夕，即腊月最后一天，闰月不算，compile和Holiday.getChineseHoliday(temporal, chineseHolidayMap)共用
+	 * @param lunarDate
+	 * @return
+	 */
+	static boolean isChuxi(LunarDate lunarDate) {
+		return !lunarDate.isLeapMonth() && lunarDate.getlMonth() == 12
+				&& lunarDate.getlDay() == lunarDate.lengthOfLunarMonth();
+	}
+
+	/**
+	 * 区间内的农历节日，按日期升序
+	 * @param startInclusive
+	 * @param endInclusive
+	 * @return startInclusive晚于endInclusive时返回空列表
+	 */
+	public List<HolidayEntry> between(LocalDate startInclusive, LocalDate endInclusive) {
+		Objects.requireNonNull(startInclusive, "startInclusive");
+		Objects.requireNonNull(endInclusive, "endInclusive");
+		List<HolidayEntry> holidayList = new ArrayList<>();
+		long start = startInclusive.toEpochDay();
+		long end = endInclusive.toEpochDay();
+		int i = Arrays.binarySearch(sortedEpochDays, (int) Math.max(Math.min(start, Integer.MAX_VALUE), Integer.MIN_VALUE));
+		for (i = i < 0 ? -i - 1 : i; i < sortedEpochDays.length && sortedEpochDays[i] <= end; i++) {
+			holidayList.add(new HolidayEntry(LocalDate.ofEpochDay(sortedEpochDays[i]), sortedNames[i].trim(),
+					HolidayEntry.Type.CHINESE));
+		}
+		return holidayList;
+	}
+
+	private static int hash(int epochDay) {
+		int h = epochDay * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * 根据日期获取农历节日，格式同Holiday.getChineseHoliday，多个节日以空格分隔，没有节日返回""
+	 * @param temporal 支持 LocalDate、LocalDateTime和ZonedDateTime
+	 * @return
+	 */
+	public String getHoliday(Temporal temporal) {
+		Objects.requireNonNull(temporal, "temporal");
+		return getHoliday(temporal.getLong(ChronoField.EPOCH_DAY));
+	}
+
+	/**
+	 * 根据公历日期获取农历节日
+	 * @param localDate
+	 * @return
+	 */
+	public String getHoliday(LocalDate localDate) {
+		Objects.requireNonNull(localDate, "localDate");
+		return getHoliday(localDate.toEpochDay());
+	}
+
+	/**
+	 * 根据epochDay获取农历节日
+	 * @param epochDay
+	 * @return
+	 */
+	public String getHoliday(long epochDay) {
+		if (epochDay < Integer.MIN_VALUE + 1 || epochDay > Integer.MAX_VALUE) {
+			return "";
+		}
+		int key = (int) epochDay;
+		int slot = hash(key) & mask;
+		while (keys[slot] != EMPTY) {
+			if (keys[slot] == key) {
+				return values[slot];
+			}
+			slot = (slot + 1) & mask;
+		}
+		return "";
+	}
+}
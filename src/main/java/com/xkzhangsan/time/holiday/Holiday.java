@@ -4,18 +4,19 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.MonthDay;
 import java.time.temporal.ChronoField;
-import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAdjusters;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import com.xkzhangsan.time.LunarDate;
 import com.xkzhangsan.time.constants.Constant;
 import com.xkzhangsan.time.converter.DateTimeConverterUtil;
-import com.xkzhangsan.time.formatter.DateTimeFormatterUtil;
+import com.xkzhangsan.time.formatter.DateTimeFormatterEnum;
 import com.xkzhangsan.time.utils.CollectionUtil;
 
 /**
@@ -24,8 +25,10 @@ import com.xkzhangsan.time.utils.CollectionUtil;
  * 1.公历节假日计算， getLocalHoliday* 比如getLocalHoliday(Date date) 计算date的公历节日，getLocalHoliday(Date date, Map<String, String> localHolidayMap) 可以传入自定义公历节日数据
  * 2.农历节假日计算， getChineseHoliday* 比如getChineseHoliday(Date date) 计算date的农历节日，getChineseHoliday(Date date, Map<String, String> chineseHolidayMap) 可以传入自定义农历节日数据
  * 3.二十四节气计算， getSolarTerm* 比如getSolarTerm(Date date) 计算date的二十四节气
+ * 4.使用节日日历计算，getLocalHoliday(HolidayCalendar holidayCalendar, Temporal temporal)，节日日历通过HolidayCalendar注册和获取
+ * 5.区间节日查询，between(LocalDate startInclusive, LocalDate endInclusive) 返回区间内所有公历和农历节日，stream 按年延迟计算
  * 
- * 农历相关，仅支持公历1901-1950年的计算
+ * 农历相关，支持农历1900-2100年的计算
 * @ClassName: Holiday
 * @Description: Holiday
 * @author xkzhangsan
@@ -67,17 +70,18 @@ public interface Holiday {
 	 * 根据日期获取公历节日
 	 * @param temporal 支持 LocalDate、LocalDateTime、Instant和ZonedDateTime
 	 * @param localHolidayMap 自定义节日数据，特殊节日如，"母亲节", "5-W-2-7" 5表示5月，W表示星期，2表示第二个星期，7表示星期的第7天
+	 * 为null时使用默认节日日历HolidayCalendar.getDefault()，多次使用同一自定义数据时，可以使用HolidayRuleSet.compile(localHolidayMap)
 	 * @return
 	 */
 	static String getLocalHoliday(Temporal temporal, Map<String, String> localHolidayMap){
 		Objects.requireNonNull(temporal, "temporal");
 		String localHoliday = "";
 		if(CollectionUtil.isEmpty(localHolidayMap)){
-			localHolidayMap = LocalHolidayEnum.convertToMap();
+			return HolidayCalendar.getDefault().getLocalHoliday(temporal);
 		}
 		
 		MonthDay monthDay = MonthDay.from(temporal);
-		String monthDayStr = monthDay.format(DateTimeFormatterUtil.MMDD_FMT);
+		String monthDayStr = monthDay.format(DateTimeFormatterEnum.MMDD.getFormatter());
 		for(Entry<String, String> entry : localHolidayMap.entrySet()){
 			if (entry.getKey().equals(monthDayStr)) {
 				localHoliday = localHoliday + " " +entry.getValue();
@@ -94,7 +98,7 @@ public interface Holiday {
 				//设置到当前节日的第几星期第几天
 				Temporal targetTem = tempTem.with(TemporalAdjusters.dayOfWeekInMonth(weekIndex, dow));
 				MonthDay targetMonthDay = MonthDay.from(targetTem);
-				String targetMonthDayStr = targetMonthDay.format(DateTimeFormatterUtil.MMDD_FMT);
+				String targetMonthDayStr = targetMonthDay.format(DateTimeFormatterEnum.MMDD.getFormatter());
 				if (monthDayStr.equals(targetMonthDayStr)) {
 					localHoliday = localHoliday + " " +entry.getValue();
 				}
@@ -103,6 +107,18 @@ public interface Holiday {
 		return localHoliday;
 	}
 	
+	/**
+	 * 根据日期和节日日历获取公历节日
+	 * @param holidayCalendar 节日日历，如：HolidayCalendar.get("CN-mainland")
+	 * @param temporal 支持 LocalDate、LocalDateTime和ZonedDateTime
+	 * @return
+	 */
+	static String getLocalHoliday(HolidayCalendar holidayCalendar, Temporal temporal){
+		Objects.requireNonNull(holidayCalendar, "holidayCalendar");
+		Objects.requireNonNull(temporal, "temporal");
+		return holidayCalendar.getLocalHoliday(temporal);
+	}
+	
 	/**
 	 * 根据日期获取农历几日
 	 * @param date
@@ -135,37 +151,94 @@ public interface Holiday {
 	/**
 	 * 根据日期获取农历几日
 	 * @param temporal 支持 LocalDate、LocalDateTime、Instant和ZonedDateTime
-	 * @param chineseHolidayMap 自定义节日数据，特殊节日如除夕 用CHUXI表示
+	 * @param chineseHolidayMap 自定义节日数据，特殊节日如除夕 用CHUXI表示，闰月不算节日
+	 * 为null时使用默认节日日历HolidayCalendar.getDefault()，多次使用同一自定义数据时，可以使用ChineseHolidayRuleSet.compile(chineseHolidayMap)
 	 * @return
 	 */
 	static String getChineseHoliday(Temporal temporal, Map<String, String> chineseHolidayMap){
 		Objects.requireNonNull(temporal, "temporal");
 		String chineseHoliday = "";
 		if(CollectionUtil.isEmpty(chineseHolidayMap)){
-			chineseHolidayMap = ChineseHolidayEnum.convertToMap();
+			return HolidayCalendar.getDefault().getChineseHoliday(temporal);
 		}
 		
 		LunarDate lunarDate = LunarDate.from(temporal);
+		//闰月不算节日
+		if (lunarDate.isLeapMonth()) {
+			return chineseHoliday;
+		}
 		String monthDayStr = lunarDate.formatShort();
+		//除夕为腊月最后一天
+		boolean chuxi = ChineseHolidayRuleSet.isChuxi(lunarDate);
 		//对比枚举日期，返回假日
 		for(Entry<String, String> entry : chineseHolidayMap.entrySet()){
 			if (entry.getKey().equals(monthDayStr)) {
 				chineseHoliday = chineseHoliday + " " +entry.getValue();
 			}
 			//如果为特殊节日除夕
-			if (entry.getKey().equals(Constant.CHUXI)) {
-				LocalDate tempLocalDate = lunarDate.getLocalDate();
-				LocalDate targetLocalDate = tempLocalDate.plus(1, ChronoUnit.DAYS);
-				LunarDate targetLunarDate = LunarDate.from(targetLocalDate);
-				String targetMonthDayStr = targetLunarDate.formatShort();
-				if(Constant.CHUNJIE.equals(targetMonthDayStr)){
-					chineseHoliday = chineseHoliday + " " +entry.getValue();
-				}
+			if (chuxi && entry.getKey().equals(Constant.CHUXI)) {
+				chineseHoliday = chineseHoliday + " " +entry.getValue();
 			}
 		}
 		return chineseHoliday;
 	}
 	
+	/**
+	 * 根据日期和节日日历获取农历节日
+	 * @param holidayCalendar 节日日历，如：HolidayCalendar.get("CN-mainland")
+	 * @param temporal 支持 LocalDate、LocalDateTime和ZonedDateTime
+	 * @return
+	 */
+	static String getChineseHoliday(HolidayCalendar holidayCalendar, Temporal temporal){
+		Objects.requireNonNull(holidayCalendar, "holidayCalendar");
+		Objects.requireNonNull(temporal, "temporal");
+		return holidayCalendar.getChineseHoliday(temporal);
+	}
+	
+	/**
+	 * 区间内的所有节日，使用默认节日日历，按日期升序，同一天公历节日在前
+	 * @param startInclusive
+	 * @param endInclusive
+	 * @return
+	 */
+	static List<HolidayEntry> between(LocalDate startInclusive, LocalDate endInclusive){
+		return between(HolidayCalendar.getDefault(), startInclusive, endInclusive);
+	}
+	
+	/**
+	 * 区间内的所有节日，按日期升序，同一天公历节日在前
+	 * @param holidayCalendar 节日日历，如：HolidayCalendar.get("CN-mainland")
+	 * @param startInclusive
+	 * @param endInclusive
+	 * @return
+	 */
+	static List<HolidayEntry> between(HolidayCalendar holidayCalendar, LocalDate startInclusive, LocalDate endInclusive){
+		Objects.requireNonNull(holidayCalendar, "holidayCalendar");
+		return holidayCalendar.between(startInclusive, endInclusive);
+	}
+	
+	/**
+	 * 区间内的所有节日流，使用默认节日日历，按年延迟计算
+	 * @param startInclusive
+	 * @param endInclusive
+	 * @return
+	 */
+	static Stream<HolidayEntry> stream(LocalDate startInclusive, LocalDate endInclusive){
+		return stream(HolidayCalendar.getDefault(), startInclusive, endInclusive);
+	}
+	
+	/**
+	 * 区间内的所有节日流，按年延迟计算
+	 * @param holidayCalendar 节日日历，如：HolidayCalendar.get("CN-mainland")
+	 * @param startInclusive
+	 * @param endInclusive
+	 * @return
+	 */
+	static Stream<HolidayEntry> stream(HolidayCalendar holidayCalendar, LocalDate startInclusive, LocalDate endInclusive){
+		Objects.requireNonNull(holidayCalendar, "holidayCalendar");
+		return holidayCalendar.stream(startInclusive, endInclusive);
+	}
+	
 	/**
 	 * 根据日期获取二十四节气
 	 * @param date
@@ -173,8 +246,7 @@ public interface Holiday {
 	 */
 	static String getSolarTerm(Date date){
 		Objects.requireNonNull(date, "date");
-		LunarDate lunarDate = LunarDate.from(date);
-		return lunarDate.getSolarTerm();
+		return getSolarTerm(DateTimeConverterUtil.toLocalDate(date));
 	}
 	
 	/**
@@ -184,7 +256,7 @@ public interface Holiday {
 	 */
 	static String getSolarTerm(Temporal temporal){
 		Objects.requireNonNull(temporal, "temporal");
-		LunarDate lunarDate = LunarDate.from(temporal);
-		return lunarDate.getSolarTerm();
+		int solarTermIndex = LunarDate.solarTermIndex(DateTimeConverterUtil.toLocalDate(temporal));
+		return solarTermIndex == -1 ? "" : LunarDate.solarTerms[solarTermIndex];
 	}
 }
@@ -0,0 +1,392 @@
+package com.xkzhangsan.time.holiday;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 节日日历
+ * 包含编译后的公历节日HolidayRuleSet、农历节日ChineseHolidayRuleSet和工作日索引BusinessDayIndex，创建后不可变，线程安全
+ * 按名称注册后可以在多处共享，不需要每次调用都传入节日数据
+ * 预置：
+ * 1.CN-mainland 默认数据，LocalHolidayEnum和ChineseHolidayEnum，工作日使用官方放假调休安排 BusinessDayIndex.ofOfficial()，
+ *   调休数据收录2020-2025年，其他年份只按周末计算，可以通过getBusinessDayIndex().isAdjustedYear(year)判断
+ * 2.CN-HK 香港公众假期中可以按公历月日或农历月日表示的部分，不包括复活节和清明节，工作日排除这些假期和周末，
+ *   第一次通过get(CN_HK)或getNames访问时才编译和注册
+ * 也可以通过HolidayCalendarFile写为二进制文件，再映射为节日日历
+ * 区间查询：between 和 stream 直接读取编译后的节日索引，不逐日计算
+ * 热加载：reload和reloadAsync 在后台编译新的节日日历后整体替换同名日历，替换前后的读取都不加锁，getLastReloadNanos 获取最近一次加载耗时，
+ * 替换CN-mainland后，Holiday.getLocalHoliday、Holiday.getChineseHoliday、LocalHolidayEnum.getHolidayName等默认查询都读取新的日历
+ *
+* @ClassName: HolidayCalendar
+* @Description: HolidayCalendar
+* @author xkzhangsan
+* @date 2026年10月17日
+ */
+public final class HolidayCalendar {
+
+	/**
+	 * 中国大陆，默认日历
+	 * 工作日的调休数据收录2020-2025年，见BusinessDayIndex.ofOfficial().getAdjustedYears()，其他年份只按周末计算
+	 */
+	public static final String CN_MAINLAND = "CN-mainland";
+
+	/**
+	 * 中国香港
+	 */
+	public static final String CN_HK = "CN-HK";
+
+	private static final Map<String, HolidayCalendar> registry = new ConcurrentHashMap<>();
+
+	/**
+	 * 最近一次加载耗时，纳秒
+	 */
+	private static final Map<String, Long> reloadNanos = new ConcurrentHashMap<>();
+
+	/**
+	 * 加载锁，只在加载之间互斥，保证后开始的加载结果不会被先开始的覆盖
+	 */
+	private static final Object reloadLock = new Object();
+
+	/**
+	 * 默认节日日历，注册CN-mainland时替换
+	 */
+	private static volatile HolidayCalendar defaultCalendar;
+
+	/**
+	 * 预置的CN-HK是否已注册，第一次通过get(CN_HK)或getNames访问时才编译，只使用默认日历时不需要编译
+	 * 注册或移除CN-HK后不再注册预置数据
+	 */
+	private static volatile boolean hongKongLoaded;
+
+	static {
+		register(new HolidayCalendar(CN_MAINLAND, HolidayRuleSet.getDefault(), ChineseHolidayRuleSet.getDefault(),
+				BusinessDayIndex.ofOfficial()));
+	}
+
+	private final String name;
+
+	private final HolidayRuleSet localRuleSet;
+
+	private final ChineseHolidayRuleSet chineseRuleSet;
+
+	private final BusinessDayIndex businessDayIndex;
+
+	/**
+	 * 映射的节日日历文件，不为null时节日从文件读取
+	 */
+	private final HolidayCalendarFile file;
+
+	private HolidayCalendar(String name, HolidayRuleSet localRuleSet, ChineseHolidayRuleSet chineseRuleSet,
+			BusinessDayIndex businessDayIndex) {
+		this.name = name;
+		this.localRuleSet = localRuleSet;
+		this.chineseRuleSet = chineseRuleSet;
+		this.businessDayIndex = businessDayIndex;
+		this.file = null;
+	}
+
+	HolidayCalendar(String name, HolidayCalendarFile file, BusinessDayIndex businessDayIndex) {
+		this.name = name;
+		this.localRuleSet = null;
+		this.chineseRuleSet = null;
+		this.businessDayIndex = businessDayIndex;
+		this.file = file;
+	}
+
+	/**
+	 * 创建节日日历，工作日只排除周末
+	 * @param name 名称
+	 * @param localHolidayMap 公历节日数据，格式同Holiday.getLocalHoliday，为null时使用默认数据 LocalHolidayEnum
+	 * @param chineseHolidayMap 农历节日数据，格式同Holiday.getChineseHoliday，为null时使用默认数据 ChineseHolidayEnum
+	 * @return
+	 */
+	public static HolidayCalendar of(String name, Map<String, String> localHolidayMap,
+			Map<String, String> chineseHolidayMap) {
+		return of(name, localHolidayMap, chineseHolidayMap, null);
+	}
+
+	/**
+	 * 创建节日日历
+	 * @param name 名称
+	 * @param localHolidayMap 公历节日数据，格式同Holiday.getLocalHoliday，为null时使用默认数据 LocalHolidayEnum
+	 * @param chineseHolidayMap 农历节日数据，格式同Holiday.getChineseHoliday，为null时使用默认数据 ChineseHolidayEnum
+	 * @param businessDayIndex 工作日索引，为null时只排除周末
+	 * @return
+	 */
+	public static HolidayCalendar of(String name, Map<String, String> localHolidayMap,
+			Map<String, String> chineseHolidayMap, BusinessDayIndex businessDayIndex) {
+		Objects.requireNonNull(name, "name");
+		return new HolidayCalendar(name,
+				localHolidayMap == null ? HolidayRuleSet.getDefault() : HolidayRuleSet.compile(localHolidayMap),
+				chineseHolidayMap == null ? ChineseHolidayRuleSet.getDefault()
+						: ChineseHolidayRuleSet.compile(chineseHolidayMap),
+				businessDayIndex == null ? BusinessDayIndex.ofWeekend() : businessDayIndex);
+	}
+
+	/**
+	 * 注册节日日历，同名时替换，替换CN-mainland时同时替换默认日历
+	 * 与reload使用同一把锁，直接注册不会与加载交错
+	 * @param holidayCalendar
+	 */
+	public static void register(HolidayCalendar holidayCalendar) {
+		Objects.requireNonNull(holidayCalendar, "holidayCalendar");
+		synchronized (reloadLock) {
+			registry.put(holidayCalendar.getName(), holidayCalendar);
+			if (CN_MAINLAND.equals(holidayCalendar.getName())) {
+				defaultCalendar = holidayCalendar;
+			} else if (CN_HK.equals(holidayCalendar.getName())) {
+				hongKongLoaded = true;
+			}
+		}
+	}
+
+	/**
+	 * 热加载，在当前线程调用loader创建节日日历并注册，替换同名日历，记录加载耗时
+	 * 加载期间其他线程仍读取原日历，不会阻塞，多个加载按顺序执行
+	 * @param loader 创建节日日历，如：() -&gt; HolidayCalendar.of("CN-mainland", null, null, BusinessDayIndex.ofOfficial().withAdjustedDays(inputStream))
+	 * @return 新的节日日历
+	 */
+	public static HolidayCalendar reload(Supplier<HolidayCalendar> loader) {
+		Objects.requireNonNull(loader, "loader");
+		synchronized (reloadLock) {
+			long start = System.nanoTime();
+			HolidayCalendar holidayCalendar = Objects.requireNonNull(loader.get(), "holidayCalendar");
+			register(holidayCalendar);
+			reloadNanos.put(holidayCalendar.getName(), System.nanoTime() - start);
+			return holidayCalendar;
+		}
+	}
+
+	/**
+	 * 后台热加载，在executor中执行reload
+	 * @param loader 创建节日日历
+	 * @param executor 执行加载的线程池
+	 * @return 完成时为新的节日日历，loader抛出异常时异常完成，原日历保持不变
+	 */
+	public static CompletableFuture<HolidayCalendar> reloadAsync(Supplier<HolidayCalendar> loader, Executor executor) {
+		Objects.requireNonNull(loader, "loader");
+		Objects.requireNonNull(executor, "executor");
+		return CompletableFuture.supplyAsync(() -> reload(loader), executor);
+	}
+
+	/**
+	 * 最近一次通过reload加载的耗时
+	 * @param name 名称
+	 * @return 纳秒，没有加载过返回-1
+	 */
+	public static long getLastReloadNanos(String name) {
+		Objects.requireNonNull(name, "name");
+		Long nanos = reloadNanos.get(name);
+		return nanos == null ? -1 : nanos;
+	}
+
+	/**
+	 * 移除节日日历
+	 * @param name
+	 * @return 被移除的日历，不存在时返回null
+	 */
+	public static HolidayCalendar unregister(String name) {
+		Objects.requireNonNull(name, "name");
+		synchronized (reloadLock) {
+			if (CN_HK.equals(name)) {
+				hongKongLoaded = true;
+			}
+			return registry.remove(name);
+		}
+	}
+
+	/**
+	 * 根据名称获取节日日历
+	 * @param name 如：CN-mainland
+	 * @return 不存在时返回null
+	 */
+	public static HolidayCalendar get(String name) {
+		Objects.requireNonNull(name, "name");
+		if (CN_HK.equals(name)) {
+			loadHongKong();
+		}
+		return registry.get(name);
+	}
+
+	/**
+	 * 默认节日日历，最近注册的CN-mainland
+	 * @return
+	 */
+	public static HolidayCalendar getDefault() {
+		return defaultCalendar;
+	}
+
+	/**
+	 * 已注册的名称
+	 * @return
+	 */
+	public static Set<String> getNames() {
+		loadHongKong();
+		return Collections.unmodifiableSet(registry.keySet());
+	}
+
+	/**
+	 * 第一次访问时注册预置的CN-HK
+	 */
+	private static void loadHongKong() {
+		if (!hongKongLoaded) {
+			synchronized (reloadLock) {
+				if (!hongKongLoaded) {
+					register(hongKong());
+				}
+			}
+		}
+	}
+
+	/**
+	 * 香港公众假期，不包括复活节和清明节，工作日索引复用编译后的节日规则
+	 * @return
+	 */
+	private static HolidayCalendar hongKong() {
+		Map<String, String> localHolidayMap = new HashMap<>();
+		localHolidayMap.put("0101", "元旦");
+		localHolidayMap.put("0501", "劳动节");
+		localHolidayMap.put("0701", "香港特别行政区成立纪念日");
+		localHolidayMap.put("1001", "国庆日");
+		localHolidayMap.put("1225", "圣诞节");
+		localHolidayMap.put("1226", "圣诞节后第一个周日");
+		Map<String, String> chineseHolidayMap = new HashMap<>();
+		chineseHolidayMap.put("0101", "农历年初一");
+		chineseHolidayMap.put("0102", "农历年初二");
+		chineseHolidayMap.put("0103", "农历年初三");
+		chineseHolidayMap.put("0408", "佛诞");
+		chineseHolidayMap.put("0505", "端午节");
+		chineseHolidayMap.put("0816", "中秋节翌日");
+		chineseHolidayMap.put("0909", "重阳节");
+		HolidayRuleSet localRuleSet = HolidayRuleSet.compile(localHolidayMap);
+		ChineseHolidayRuleSet chineseRuleSet = ChineseHolidayRuleSet.compile(chineseHolidayMap);
+		return new HolidayCalendar(CN_HK, localRuleSet, chineseRuleSet, new BusinessDayIndex(localRuleSet, chineseRuleSet));
+	}
+
+	/**
+	 * 名称
+	 * @return
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 根据日期获取公历节日
+	 * @param temporal 支持 LocalDate、LocalDateTime和ZonedDateTime
+	 * @return
+	 */
+	public String getLocalHoliday(Temporal temporal) {
+		if (file != null) {
+			Objects.requireNonNull(temporal, "temporal");
+			return file.getLocalHoliday(temporal.getLong(ChronoField.EPOCH_DAY));
+		}
+		return localRuleSet.getHoliday(temporal);
+	}
+
+	/**
+	 * 根据日期获取农历节日
+	 * @param temporal 支持 LocalDate、LocalDateTime和ZonedDateTime
+	 * @return
+	 */
+	public String getChineseHoliday(Temporal temporal) {
+		if (file != null) {
+			Objects.requireNonNull(temporal, "temporal");
+			return file.getChineseHoliday(temporal.getLong(ChronoField.EPOCH_DAY));
+		}
+		return chineseRuleSet.getHoliday(temporal);
+	}
+
+	/**
+	 * 区间内的公历和农历节日，按日期升序，同一天公历节日在前
+	 * @param startInclusive
+	 * @param endInclusive
+	 * @return startInclusive晚于endInclusive时返回空列表
+	 */
+	public List<HolidayEntry> between(LocalDate startInclusive, LocalDate endInclusive) {
+		Objects.requireNonNull(startInclusive, "startInclusive");
+		Objects.requireNonNull(endInclusive, "endInclusive");
+		if (startInclusive.isAfter(endInclusive)) {
+			return new ArrayList<>();
+		}
+		if (file != null) {
+			return file.between(startInclusive, endInclusive);
+		}
+		List<HolidayEntry> localList = localRuleSet.between(startInclusive, endInclusive);
+		List<HolidayEntry> chineseList = chineseRuleSet.between(startInclusive, endInclusive);
+		List<HolidayEntry> holidayList = new ArrayList<>(localList.size() + chineseList.size());
+		int i = 0;
+		int j = 0;
+		while (i < localList.size() || j < chineseList.size()) {
+			if (j == chineseList.size() || (i < localList.size()
+					&& !localList.get(i).getLocalDate().isAfter(chineseList.get(j).getLocalDate()))) {
+				holidayList.add(localList.get(i++));
+			} else {
+				holidayList.add(chineseList.get(j++));
+			}
+		}
+		return holidayList;
+	}
+
+	/**
+	 * 区间内的节日流，按年延迟计算，适合跨多年的区间，顺序同between
+	 * @param startInclusive
+	 * @param endInclusive
+	 * @return
+	 */
+	public Stream<HolidayEntry> stream(LocalDate startInclusive, LocalDate endInclusive) {
+		Objects.requireNonNull(startInclusive, "startInclusive");
+		Objects.requireNonNull(endInclusive, "endInclusive");
+		if (startInclusive.isAfter(endInclusive)) {
+			return Stream.empty();
+		}
+		return IntStream.rangeClosed(startInclusive.getYear(), endInclusive.getYear()).mapToObj(year -> {
+			LocalDate yearStart = year == startInclusive.getYear() ? startInclusive : LocalDate.of(year, 1, 1);
+			LocalDate yearEnd = year == endInclusive.getYear() ? endInclusive : LocalDate.of(year, 12, 31);
+			return between(yearStart, yearEnd);
+		}).flatMap(List::stream);
+	}
+
+	/**
+	 * 公历节日规则，映射的节日日历返回null
+	 * @return
+	 */
+	public HolidayRuleSet getLocalRuleSet() {
+		return localRuleSet;
+	}
+
+	/**
+	 * 农历节日规则，映射的节日日历返回null
+	 * @return
+	 */
+	public ChineseHolidayRuleSet getChineseRuleSet() {
+		return chineseRuleSet;
+	}
+
+	/**
+	 * 工作日索引
+	 * @return
+	 */
+	public BusinessDayIndex getBusinessDayIndex() {
+		return businessDayIndex;
+	}
+
+	@Override
+	public String toString() {
+		return "HolidayCalendar [name=" + name + "]";
+	}
+}
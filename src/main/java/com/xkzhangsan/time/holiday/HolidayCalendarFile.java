@@ -0,0 +1,320 @@
+package com.xkzhangsan.time.holiday;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 节日日历二进制文件
+ * 1.write(HolidayCalendar, Path) 把编译后的节日日历写为二进制文件，包括1900-2100年每天的公历节日、农历节日和工作日位图
+ * 2.map(Path) 通过FileChannel.map只读映射文件，返回的HolidayCalendar查询节日时直接读取映射的缓冲区，同一主机的多个JVM共享页缓存，启动时不需要解析节日规则
+ * 3.映射的节日日历只包含1900-2100年，范围外的日期没有节日，getLocalRuleSet()和getChineseRuleSet()返回null
+ *
+ * 文件格式，大端序：
+ * int 魔数 XKHC，short 版本，int 名称长度和UTF-8名称，int 开始epochDay，int 天数
+ * int 节日名称数量，每个名称为int 长度和UTF-8字节，第0个为""
+ * int 节日组合数量，每个组合为short 公历节日名称序号、short 农历节日名称序号，第0个为没有节日
+ * short[天数] 每天的节日组合序号
+ * int 有节日的天数，int[] 有节日的日期相对开始epochDay的序号，升序，用于区间查询
+ * int 工作日位图long数量，long[] 非工作日位图
+ * int 调休年份位图long数量，long[] 有调休数据的年份位图，见BusinessDayIndex.isAdjustedYear
+ *
+* @ClassName: HolidayCalendarFile
+* @Description: HolidayCalendarFile
+* @author xkzhangsan
+* @date 2026年10月17日
+ */
+public final class HolidayCalendarFile {
+
+	private static final int MAGIC = 0x584B4843;
+
+	private static final int VERSION = 3;
+
+	/**
+	 * 节日名称
+	 */
+	private final String[] names;
+
+	/**
+	 * 映射的缓冲区，组合表、每天组合序号和有节日日期索引的位置
+	 */
+	private final ByteBuffer buffer;
+	private final int pairOffset;
+	private final int dayOffset;
+	private final int holidayDayOffset;
+	private final int holidayDayCount;
+	private final int startEpochDay;
+	private final int dayCount;
+
+	private HolidayCalendarFile(String[] names, ByteBuffer buffer, int pairOffset, int dayOffset,
+			int holidayDayOffset, int holidayDayCount, int startEpochDay, int dayCount) {
+		this.names = names;
+		this.buffer = buffer;
+		this.pairOffset = pairOffset;
+		this.dayOffset = dayOffset;
+		this.holidayDayOffset = holidayDayOffset;
+		this.holidayDayCount = holidayDayCount;
+		this.startEpochDay = startEpochDay;
+		this.dayCount = dayCount;
+	}
+
+	/**
+	 * 写入节日日历文件
+	 * @param holidayCalendar
+	 * @param path
+	 * @throws IOException
+	 */
+	public static void write(HolidayCalendar holidayCalendar, Path path) throws IOException {
+		Objects.requireNonNull(holidayCalendar, "holidayCalendar");
+		Objects.requireNonNull(path, "path");
+		int startEpochDay = (int) LocalDate.of(BusinessDayIndex.MIN_YEAR, 1, 1).toEpochDay();
+		int dayCount = (int) LocalDate.of(BusinessDayIndex.MAX_YEAR + 1, 1, 1).toEpochDay() - startEpochDay;
+
+		List<String> names = new ArrayList<>();
+		Map<String, Integer> nameIndexes = new HashMap<>();
+		List<Integer> pairs = new ArrayList<>();
+		Map<Integer, Integer> pairIndexes = new HashMap<>();
+		names.add("");
+		nameIndexes.put("", 0);
+		pairs.add(0);
+		pairIndexes.put(0, 0);
+		short[] days = new short[dayCount];
+		List<Integer> holidayDays = new ArrayList<>();
+		LocalDate localDate = LocalDate.ofEpochDay(startEpochDay);
+		for (int i = 0; i < dayCount; i++, localDate = localDate.plusDays(1)) {
+			int local = indexOf(holidayCalendar.getLocalHoliday(localDate), names, nameIndexes);
+			int chinese = indexOf(holidayCalendar.getChineseHoliday(localDate), names, nameIndexes);
+			int pair = local << 16 | chinese;
+			Integer pairIndex = pairIndexes.get(pair);
+			if (pairIndex == null) {
+				pairIndex = pairs.size();
+				pairs.add(pair);
+				pairIndexes.put(pair, pairIndex);
+			}
+			days[i] = (short) checkShort(pairIndex);
+			if (pairIndex != 0) {
+				holidayDays.add(i);
+			}
+		}
+
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+			writeString(out, holidayCalendar.getName());
+			out.writeInt(startEpochDay);
+			out.writeInt(dayCount);
+			out.writeInt(names.size());
+			for (String name : names) {
+				writeString(out, name);
+			}
+			out.writeInt(pairs.size());
+			for (int pair : pairs) {
+				out.writeShort(pair >>> 16);
+				out.writeShort(pair & 0xFFFF);
+			}
+			for (short day : days) {
+				out.writeShort(day);
+			}
+			out.writeInt(holidayDays.size());
+			for (int holidayDay : holidayDays) {
+				out.writeInt(holidayDay);
+			}
+			BusinessDayIndex businessDayIndex = holidayCalendar.getBusinessDayIndex();
+			writeLongs(out, businessDayIndex.bits());
+			writeLongs(out, businessDayIndex.adjustedYears());
+		}
+	}
+
+	/**
+	 * 节日名称序号，新名称加入names
+	 * @param name
+	 * @param names
+	 * @param nameIndexes
+	 * @return
+	 */
+	private static int indexOf(String name, List<String> names, Map<String, Integer> nameIndexes) {
+		Integer index = nameIndexes.get(name);
+		if (index == null) {
+			index = names.size();
+			names.add(name);
+			nameIndexes.put(name, index);
+		}
+		return checkShort(index);
+	}
+
+	private static int checkShort(int index) {
+		if (index > 0xFFFF) {
+			throw new IllegalStateException("too many holidays, max " + 0xFFFF);
+		}
+		return index;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static void writeLongs(DataOutputStream out, long[] values) throws IOException {
+		out.writeInt(values.length);
+		for (long value : values) {
+			out.writeLong(value);
+		}
+	}
+
+	private static long[] readLongs(ByteBuffer buffer) {
+		long[] values = new long[buffer.getInt()];
+		buffer.asLongBuffer().get(values);
+		buffer.position(buffer.position() + values.length * 8);
+		return values;
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 只读映射节日日历文件，返回的节日日历未注册，可以通过HolidayCalendar.register注册
+	 * @param path
+	 * @return
+	 * @throws IOException 读取失败或不是节日日历文件
+	 */
+	public static HolidayCalendar map(Path path) throws IOException {
+		Objects.requireNonNull(path, "path");
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		try {
+			if (buffer.getInt() != MAGIC) {
+				throw new IOException(path + " is not a holiday calendar file");
+			}
+			int version = buffer.getShort() & 0xFFFF;
+			if (version != VERSION) {
+				throw new IOException(path + " version " + version + " is not supported");
+			}
+			String name = readString(buffer);
+			int startEpochDay = buffer.getInt();
+			int dayCount = buffer.getInt();
+			String[] names = new String[buffer.getInt()];
+			for (int i = 0; i < names.length; i++) {
+				names[i] = readString(buffer).intern();
+			}
+			int pairCount = buffer.getInt();
+			int pairOffset = buffer.position();
+			int dayOffset = pairOffset + pairCount * 4;
+			buffer.position(dayOffset + dayCount * 2);
+			int holidayDayCount = buffer.getInt();
+			int holidayDayOffset = buffer.position();
+			buffer.position(holidayDayOffset + holidayDayCount * 4);
+			long[] bits = readLongs(buffer);
+			long[] adjustedYears = readLongs(buffer);
+			HolidayCalendarFile file = new HolidayCalendarFile(names, buffer, pairOffset, dayOffset, holidayDayOffset,
+					holidayDayCount, startEpochDay, dayCount);
+			return new HolidayCalendar(name, file, BusinessDayIndex.ofBits(startEpochDay, dayCount, bits, adjustedYears));
+		} catch (RuntimeException e) {
+			throw new IOException(path + " is not a valid holiday calendar file", e);
+		}
+	}
+
+	/**
+	 * 节日组合的位置，范围外返回-1
+	 * @param epochDay
+	 * @return
+	 */
+	private int pairPosition(long epochDay) {
+		long index = epochDay - startEpochDay;
+		if (index < 0 || index >= dayCount) {
+			return -1;
+		}
+		return pairOffset + (buffer.getShort(dayOffset + (int) index * 2) & 0xFFFF) * 4;
+	}
+
+	/**
+	 * 区间内的节日，按日期升序，同一天公历节日在前
+	 * 在有节日日期索引中二分查找区间开始位置，只读取区间内有节日的日期
+	 * @param startInclusive
+	 * @param endInclusive
+	 * @return
+	 */
+	List<HolidayEntry> between(LocalDate startInclusive, LocalDate endInclusive) {
+		List<HolidayEntry> holidayList = new ArrayList<>();
+		long start = Math.max(startInclusive.toEpochDay() - startEpochDay, 0);
+		long end = Math.min(endInclusive.toEpochDay() - startEpochDay, dayCount - 1);
+		if (start > end) {
+			return holidayList;
+		}
+		for (int i = lowerBound((int) start); i < holidayDayCount; i++) {
+			int index = buffer.getInt(holidayDayOffset + i * 4);
+			if (index > end) {
+				break;
+			}
+			int pair = buffer.getShort(dayOffset + index * 2) & 0xFFFF;
+			int position = pairOffset + pair * 4;
+			String local = names[buffer.getShort(position) & 0xFFFF];
+			String chinese = names[buffer.getShort(position + 2) & 0xFFFF];
+			LocalDate localDate = LocalDate.ofEpochDay(startEpochDay + index);
+			if (!local.isEmpty()) {
+				holidayList.add(new HolidayEntry(localDate, local.trim(), HolidayEntry.Type.LOCAL));
+			}
+			if (!chinese.isEmpty()) {
+				holidayList.add(new HolidayEntry(localDate, chinese.trim(), HolidayEntry.Type.CHINESE));
+			}
+		}
+		return holidayList;
+	}
+
+	/**
+	 * 有节日日期索引中第一个不小于index的位置
+	 * @param index 相对开始epochDay的序号
+	 * @return
+	 */
+	private int lowerBound(int index) {
+		int low = 0;
+		int high = holidayDayCount;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (buffer.getInt(holidayDayOffset + mid * 4) < index) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * 公历节日，没有节日返回""
+	 * @param epochDay
+	 * @return
+	 */
+	String getLocalHoliday(long epochDay) {
+		int position = pairPosition(epochDay);
+		return position < 0 ? "" : names[buffer.getShort(position) & 0xFFFF];
+	}
+
+	/**
+	 * 农历节日，没有节日返回""
+	 * @param epochDay
+	 * @return
+	 */
+	String getChineseHoliday(long epochDay) {
+		int position = pairPosition(epochDay);
+		return position < 0 ? "" : names[buffer.getShort(position + 2) & 0xFFFF];
+	}
+}
@@ -0,0 +1,88 @@
+package com.xkzhangsan.time.holiday;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 区间查询的节日结果，包括日期、节日名称和节日类型
+ * 同一天同类型的多个节日合并为一条，名称以空格分隔
+ *
+* @ClassName: HolidayEntry
+* @Description: HolidayEntry
+* @author xkzhangsan
+* @date 2026年10月17日
+ */
+public final class HolidayEntry {
+
+	/**
+	 * 节日类型
+	 */
+	public enum Type {
+		/**
+		 * 公历节日
+		 */
+		LOCAL,
+		/**
+		 * 农历节日
+		 */
+		CHINESE
+	}
+
+	private final LocalDate localDate;
+
+	private final String name;
+
+	private final Type type;
+
+	public HolidayEntry(LocalDate localDate, String name, Type type) {
+		this.localDate = Objects.requireNonNull(localDate, "localDate");
+		this.name = Objects.requireNonNull(name, "name");
+		this.type = Objects.requireNonNull(type, "type");
+	}
+
+	/**
+	 * 日期
+	 * @return
+	 */
+	public LocalDate getLocalDate() {
+		return localDate;
+	}
+
+	/**
+	 * 节日名称，如：元旦
+	 * @return
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 节日类型
+	 * @return
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof HolidayEntry)) {
+			return false;
+		}
+		HolidayEntry other = (HolidayEntry) obj;
+		return localDate.equals(other.localDate) && name.equals(other.name) && type == other.type;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(localDate, name, type);
+	}
+
+	@Override
+	public String toString() {
+		return "HolidayEntry [localDate=" + localDate + ", name=" + name + ", type=" + type + "]";
+	}
+}
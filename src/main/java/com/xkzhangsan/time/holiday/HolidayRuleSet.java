@@ -0,0 +1,240 @@
+package com.xkzhangsan.time.holiday;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.temporal.ChronoField;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 编译后的公历节日规则
+ * 规则格式同Holiday.getLocalHoliday的localHolidayMap，如："0101" 元旦，"5-W-2-7" 母亲节
+ * 1.compile(Map) 只解析一次规则，按map的遍历顺序保存
+ * 2.每年展开为按dayOfYear下标的节日数组，首次访问时生成，1900-2100年缓存
+ * 3.getHoliday 为数组读取，不创建对象，结果与Holiday.getLocalHoliday相同
+ * 4.between 区间查询，每年同时保存有节日的dayOfYear，直接跳到有节日的日期
+ *
+* @ClassName: HolidayRuleSet
+* @Description: HolidayRuleSet
+* @author xkzhangsan
+* @date 2026年10月17日
+ */
+public final class HolidayRuleSet {
+
+	/**
+	 * 缓存的年份范围
+	 */
+	private static final int MIN_CACHED_YEAR = 1900;
+	private static final int MAX_CACHED_YEAR = 2100;
+
+	/**
+	 * 默认公历节日，LocalHolidayEnum
+	 */
+	private static final HolidayRuleSet DEFAULT = compile(LocalHolidayEnum.convertToMap());
+
+	/**
+	 * 规则，month为节日月份，day大于0时为固定月日，否则为第weekIndex个星期的dayOfWeek
+	 */
+	private final int[] months;
+	private final int[] days;
+	private final int[] weekIndexes;
+	private final DayOfWeek[] dayOfWeeks;
+	private final String[] names;
+
+	/**
+	 * 每年的节日表
+	 */
+	private final AtomicReferenceArray<YearTable> yearTables = new AtomicReferenceArray<>(
+			MAX_CACHED_YEAR - MIN_CACHED_YEAR + 1);
+
+	/**
+	 * 一年的节日，names下标为dayOfYear-1，没有节日为null，days为有节日的dayOfYear，升序
+	 */
+	private static final class YearTable {
+
+		private final String[] names;
+
+		private final int[] days;
+
+		private YearTable(String[] names) {
+			this.names = names;
+			int count = 0;
+			for (String name : names) {
+				if (name != null) {
+					count++;
+				}
+			}
+			days = new int[count];
+			for (int i = 0, n = 0; i < names.length; i++) {
+				if (names[i] != null) {
+					days[n++] = i + 1;
+				}
+			}
+		}
+	}
+
+	private HolidayRuleSet(List<int[]> rules, List<DayOfWeek> dayOfWeekList, List<String> nameList) {
+		int size = rules.size();
+		months = new int[size];
+		days = new int[size];
+		weekIndexes = new int[size];
+		dayOfWeeks = dayOfWeekList.toArray(new DayOfWeek[size]);
+		names = nameList.toArray(new String[size]);
+		for (int i = 0; i < size; i++) {
+			months[i] = rules.get(i)[0];
+			days[i] = rules.get(i)[1];
+			weekIndexes[i] = rules.get(i)[2];
+		}
+	}
+
+	/**
+	 * 默认公历节日规则，LocalHolidayEnum
+	 * @return
+	 */
+	public static HolidayRuleSet getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * 编译节日规则
+	 * @param localHolidayMap 自定义节日数据，特殊节日如，"母亲节", "5-W-2-7" 5表示5月，W表示星期，2表示第二个星期，7表示星期的第7天
+	 * @return
+	 */
+	public static HolidayRuleSet compile(Map<String, String> localHolidayMap) {
+		Objects.requireNonNull(localHolidayMap, "localHolidayMap");
+		List<int[]> rules = new ArrayList<>();
+		List<DayOfWeek> dayOfWeekList = new ArrayList<>();
+		List<String> nameList = new ArrayList<>();
+		for (Entry<String, String> entry : localHolidayMap.entrySet()) {
+			String key = entry.getKey();
+			if (key == null) {
+				continue;
+			}
+			if (key.contains("W")) {
+				String[] arr = key.split("-");
+				rules.add(new int[] { Integer.parseInt(arr[0]), 0, Integer.parseInt(arr[2]) });
+				dayOfWeekList.add(DayOfWeek.of(Integer.parseInt(arr[3])));
+				nameList.add(entry.getValue());
+			} else if (isMonthDay(key)) {
+				rules.add(new int[] { Integer.parseInt(key.substring(0, 2)), Integer.parseInt(key.substring(2)), 0 });
+				dayOfWeekList.add(null);
+				nameList.add(entry.getValue());
+			}
+		}
+		return new HolidayRuleSet(rules, dayOfWeekList, nameList);
+	}
+
+	/**
+	 * 是否为有效的MMdd格式
+	 * @param key
+	 * @return
+	 */
+	private static boolean isMonthDay(String key) {
+		if (key.length() != 4) {
+			return false;
+		}
+		for (int i = 0; i < 4; i++) {
+			if (key.charAt(i) < '0' || key.charAt(i) > '9') {
+				return false;
+			}
+		}
+		int month = Integer.parseInt(key.substring(0, 2));
+		int day = Integer.parseInt(key.substring(2));
+		return month >= 1 && month <= 12 && day >= 1 && day <= LocalDate.of(2000, month, 1).lengthOfMonth();
+	}
+
+	/**
+	 * 根据日期获取公历节日，格式同Holiday.getLocalHoliday，多个节日以空格分隔，没有节日返回""
+	 * @param temporal 支持 LocalDate、LocalDateTime和ZonedDateTime
+	 * @return
+	 */
+	public String getHoliday(Temporal temporal) {
+		Objects.requireNonNull(temporal, "temporal");
+		return getHoliday(temporal.get(ChronoField.YEAR), temporal.get(ChronoField.DAY_OF_YEAR));
+	}
+
+	/**
+	 * 根据年和dayOfYear获取公历节日
+	 * @param year
+	 * @param dayOfYear 1-366
+	 * @return
+	 */
+	public String getHoliday(int year, int dayOfYear) {
+		String holiday = yearTable(year).names[dayOfYear - 1];
+		return holiday == null ? "" : holiday;
+	}
+
+	/**
+	 * 区间内的公历节日，按日期升序
+	 * @param startInclusive
+	 * @param endInclusive
+	 * @return startInclusive晚于endInclusive时返回空列表
+	 */
+	public List<HolidayEntry> between(LocalDate startInclusive, LocalDate endInclusive) {
+		Objects.requireNonNull(startInclusive, "startInclusive");
+		Objects.requireNonNull(endInclusive, "endInclusive");
+		List<HolidayEntry> holidayList = new ArrayList<>();
+		for (int year = startInclusive.getYear(); year <= endInclusive.getYear(); year++) {
+			YearTable table = yearTable(year);
+			int startDay = year == startInclusive.getYear() ? startInclusive.getDayOfYear() : 1;
+			int endDay = year == endInclusive.getYear() ? endInclusive.getDayOfYear() : table.names.length;
+			int i = Arrays.binarySearch(table.days, startDay);
+			for (i = i < 0 ? -i - 1 : i; i < table.days.length && table.days[i] <= endDay; i++) {
+				holidayList.add(new HolidayEntry(LocalDate.ofYearDay(year, table.days[i]),
+						table.names[table.days[i] - 1].trim(), HolidayEntry.Type.LOCAL));
+			}
+		}
+		return holidayList;
+	}
+
+	/**
+	 * 年的节日表，范围内缓存
+	 * @param year
+	 * @return
+	 */
+	private YearTable yearTable(int year) {
+		if (year < MIN_CACHED_YEAR || year > MAX_CACHED_YEAR) {
+			return new YearTable(buildYearTable(year));
+		}
+		YearTable table = yearTables.get(year - MIN_CACHED_YEAR);
+		if (table == null) {
+			table = new YearTable(buildYearTable(year));
+			yearTables.set(year - MIN_CACHED_YEAR, table);
+		}
+		return table;
+	}
+
+	/**
+	 * 展开一年的节日，同一天多个节日按规则顺序拼接
+	 * @param year
+	 * @return
+	 */
+	private String[] buildYearTable(int year) {
+		boolean leapYear = Year.isLeap(year);
+		String[] table = new String[leapYear ? 366 : 365];
+		for (int i = 0; i < names.length; i++) {
+			int month = months[i];
+			int day = days[i];
+			if (day == 0) {
+				LocalDate target = LocalDate.of(year, month, 1)
+						.with(TemporalAdjusters.dayOfWeekInMonth(weekIndexes[i], dayOfWeeks[i]));
+				month = target.getMonthValue();
+				day = target.getDayOfMonth();
+			}
+			if (month == 2 && day == 29 && !leapYear) {
+				continue;
+			}
+			int index = LocalDate.of(year, month, day).getDayOfYear() - 1;
+			table[index] = (table[index] == null ? "" : table[index]) + " " + names[i];
+		}
+		return table;
+	}
+}
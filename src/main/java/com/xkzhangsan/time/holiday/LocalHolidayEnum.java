@@ -9,7 +9,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
-import com.xkzhangsan.time.formatter.DateTimeFormatterUtil;
+import com.xkzhangsan.time.formatter.DateTimeFormatterEnum;
 
 /**
  * 公历常见假日
@@ -78,7 +78,7 @@ public enum LocalHolidayEnum implements Holiday{
 	public static LocalHolidayEnum getHoliday(Temporal temporal) {
 		Objects.requireNonNull(temporal, "temporal");
 		MonthDay monthDay = MonthDay.from(temporal);
-		String monthDayStr = monthDay.format(DateTimeFormatterUtil.MMDD_FMT);
+		String monthDayStr = monthDay.format(DateTimeFormatterEnum.MMDD.getFormatter());
 		//对比枚举日期，返回假日
 		for (LocalHolidayEnum localHolidayEnum : LocalHolidayEnum.values()) {
 			if (localHolidayEnum.getPattern().equals(monthDayStr)) {
@@ -96,7 +96,7 @@ public enum LocalHolidayEnum implements Holiday{
 				//设置到当前节日的第几星期第几天
 				Temporal targetTem = tempTem.with(TemporalAdjusters.dayOfWeekInMonth(weekIndex, dow));
 				MonthDay targetMonthDay = MonthDay.from(targetTem);
-				String targetMonthDayStr = targetMonthDay.format(DateTimeFormatterUtil.MMDD_FMT);
+				String targetMonthDayStr = targetMonthDay.format(DateTimeFormatterEnum.MMDD.getFormatter());
 				if (monthDayStr.equals(targetMonthDayStr)) {
 					return localHolidayEnum;
 				}
@@ -106,12 +106,12 @@ public enum LocalHolidayEnum implements Holiday{
 	}
 	
 	/**
-	 * 根据时间获取节日名称
+	 * 根据时间获取节日名称，读取默认节日日历HolidayCalendar.getDefault()
 	 * @param temporal
 	 * @return
 	 */
 	public static String getHolidayName(Temporal temporal) {
-		return Holiday.getLocalHoliday(temporal, convertToMap());
+		return HolidayCalendar.getDefault().getLocalHoliday(temporal);
 	}
 	
 	/**
@@ -124,7 +124,7 @@ public enum LocalHolidayEnum implements Holiday{
 		Objects.requireNonNull(temporal, "temporal");
 		Objects.requireNonNull(monthDay, "monthDay");
 		MonthDay monthDay1 = MonthDay.from(temporal);
-		String monthDayStr = monthDay1.format(DateTimeFormatterUtil.MMDD_FMT);
+		String monthDayStr = monthDay1.format(DateTimeFormatterEnum.MMDD.getFormatter());
 		if(monthDayStr.equals(monthDay)){
 			return true;
 		}
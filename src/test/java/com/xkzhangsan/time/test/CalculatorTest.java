@@ -10,14 +10,19 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.junit.Assert;
 import org.junit.Test;
 
 import com.xkzhangsan.time.calculator.DateTimeCalculatorUtil;
 import com.xkzhangsan.time.converter.DateTimeConverterUtil;
 import com.xkzhangsan.time.enums.ZoneIdEnum;
+import com.xkzhangsan.time.formatter.DateTimeFormatterEnum;
 import com.xkzhangsan.time.formatter.DateTimeFormatterUtil;
+import com.xkzhangsan.time.holiday.BusinessDayIndex;
 
 public class CalculatorTest {
 	
@@ -475,17 +480,42 @@ public class CalculatorTest {
 	
 	@Test
 	public void durationBetween(){
-		LocalDateTime ldt2 = DateTimeFormatterUtil.parseToLocalDateTime("2019-12-01 17:03:03", DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_FMT);
-		LocalDateTime ldt3 = DateTimeFormatterUtil.parseToLocalDateTime("2019-12-02 13:03:03", DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_FMT);
+		LocalDateTime ldt2 = DateTimeFormatterUtil.parseToLocalDateTime("2019-12-01 17:03:03", DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS.getFormatter());
+		LocalDateTime ldt3 = DateTimeFormatterUtil.parseToLocalDateTime("2019-12-02 13:03:03", DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS.getFormatter());
 		Duration d = DateTimeCalculatorUtil.durationBetween(ldt2, ldt3);
 		System.out.println("days:"+d.toDays());
 	}
 	
 	@Test
 	public void periodBetween(){
-		LocalDate ld1 = DateTimeFormatterUtil.parseToLocalDateTime("2019-12-01 17:03:03", DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_FMT).toLocalDate();
-		LocalDate ld2 = DateTimeFormatterUtil.parseToLocalDateTime("2019-12-02 13:03:03", DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_FMT).toLocalDate();
+		LocalDate ld1 = DateTimeFormatterUtil.parseToLocalDateTime("2019-12-01 17:03:03", DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS.getFormatter()).toLocalDate();
+		LocalDate ld2 = DateTimeFormatterUtil.parseToLocalDateTime("2019-12-02 13:03:03", DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS.getFormatter()).toLocalDate();
 		Period p = DateTimeCalculatorUtil.periodBetween(ld1, ld2);
 		System.out.println("days:"+p.getDays());
 	}
+	
+	/**
+	 * 工作日计算，包含节假日
+	 */
+	@Test
+	public void workDayWithHolidayTest(){
+		Map<String, String> localHolidayMap = new HashMap<String, String>();
+		localHolidayMap.put("1001", "国庆节");
+		localHolidayMap.put("1002", "国庆节");
+		localHolidayMap.put("1230", "自定义假日");
+		BusinessDayIndex businessDayIndex = new BusinessDayIndex(localHolidayMap, null);
+		
+		//2020-09-30 周三，下一个工作日为10-05
+		LocalDateTime localDateTime = LocalDateTime.of(2020, 9, 30, 10, 30);
+		Assert.assertEquals(LocalDateTime.of(2020, 10, 5, 10, 30), DateTimeCalculatorUtil.nextWorkDay(localDateTime, businessDayIndex));
+		Assert.assertEquals(LocalDate.of(2020, 9, 30), DateTimeCalculatorUtil.previousWorkDay(LocalDate.of(2020, 10, 5), businessDayIndex));
+		Assert.assertEquals(LocalDate.of(2020, 10, 6), DateTimeCalculatorUtil.plusWorkDays(LocalDate.of(2020, 9, 30), 2, businessDayIndex));
+		Assert.assertEquals(LocalDate.of(2020, 9, 29), DateTimeCalculatorUtil.plusWorkDays(LocalDate.of(2020, 10, 5), -2, businessDayIndex));
+		Assert.assertEquals(4, DateTimeCalculatorUtil.betweenWorkDays(LocalDate.of(2020, 9, 30), LocalDate.of(2020, 10, 8), businessDayIndex));
+		//2020-12-31 周四
+		Assert.assertEquals(LocalDate.of(2020, 12, 31), DateTimeCalculatorUtil.lastWorkDayOfMonth(LocalDate.of(2020, 12, 1), businessDayIndex));
+		//2020-10-31 周六，最后一个工作日为10-30
+		Assert.assertEquals(LocalDate.of(2020, 10, 30), DateTimeCalculatorUtil.lastWorkDayOfMonth(LocalDate.of(2020, 10, 1), businessDayIndex));
+		Assert.assertFalse(DateTimeCalculatorUtil.isWorkDay(LocalDate.of(2020, 12, 30), businessDayIndex));
+	}
 }
@@ -0,0 +1,129 @@
+package com.xkzhangsan.time.test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.function.IntToLongFunction;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.xkzhangsan.time.formatter.DateTimeFormatterEnum;
+import com.xkzhangsan.time.formatter.DateTimeFormatterUtil;
+import com.xkzhangsan.time.formatter.FastDateTimeFormatter;
+
+/**
+ * 格式化和解析的耗时对比，只打印耗时，不属于单元测试，mvn test 默认不运行
+ * 单独运行：mvn test -Dtest=FormatterBenchmark
+ */
+public class FormatterBenchmark {
+	
+	private static final int COUNT = 500_000;
+	
+	private static final int ROUNDS = 3;
+	
+	/**
+	 * 每轮依次运行各实现COUNT次并打印耗时，第一轮包含预热
+	 * @param title
+	 * @param names 实现名称
+	 * @param cases 参数为循环序号，返回值累加后返回，避免被优化掉
+	 * @return 所有返回值的和
+	 */
+	private static long compare(String title, String[] names, IntToLongFunction... cases) {
+		long sum = 0;
+		for (int round = 0; round < ROUNDS; round++) {
+			StringBuilder sb = new StringBuilder(title).append(" ").append(COUNT);
+			for (int c = 0; c < cases.length; c++) {
+				long start = System.nanoTime();
+				for (int i = 0; i < COUNT; i++) {
+					sum += cases[c].applyAsLong(i);
+				}
+				sb.append(", ").append(names[c]).append(": ")
+						.append((System.nanoTime() - start) / 1000_000).append("ms");
+			}
+			System.out.println(sb);
+		}
+		return sum;
+	}
+	
+	/**
+	 * 快速格式化和DateTimeFormatter的耗时对比
+	 */
+	@Test
+	public void fastFormatBenchmark(){
+		LocalDateTime start = LocalDateTime.of(2019, 12, 1, 17, 3, 3);
+		long length = compare("format yyyy-MM-dd HH:mm:ss", new String[] { "DateTimeFormatter", "FastDateTimeFormatter" },
+				i -> start.plusSeconds(i).format(DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS.getFormatter()).length(),
+				i -> FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS.format(start.plusSeconds(i)).length());
+		Assert.assertEquals((long) ROUNDS * 2 * COUNT * 19, length);
+	}
+	
+	/**
+	 * 快速解析和DateTimeFormatter的耗时对比
+	 */
+	@Test
+	public void fastParseBenchmark(){
+		String[] texts = new String[1000];
+		for (int i = 0; i < texts.length; i++) {
+			texts[i] = FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS.format(LocalDateTime.of(2019, 12, 1, 17, 3, 3).plusSeconds(i * 7919L));
+		}
+		long sum = compare("parse yyyy-MM-dd HH:mm:ss",
+				new String[] { "DateTimeFormatter", "FastDateTimeFormatter", "parseToEpochMilli" },
+				i -> LocalDateTime.from(DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS.getFormatter().parse(texts[i % texts.length])).getSecond(),
+				i -> -FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS.parseToLocalDateTime(texts[i % texts.length]).getSecond(),
+				i -> FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS.parseToEpochMilli(texts[i % texts.length], ZoneOffset.UTC) % 1000);
+		Assert.assertEquals(0, sum);
+	}
+	
+	/**
+	 * epochMilli格式化和Date格式化的耗时对比，时间递增
+	 */
+	@Test
+	public void fastFormatEpochMilliBenchmark(){
+		long start = 1575190983123L;
+		long length = compare("format epochMilli yyyy-MM-dd HH:mm:ss.SSS", new String[] { "DateTimeFormatter", "FastDateTimeFormatter" },
+				i -> DateTimeFormatterUtil.format(new Date(start + i * 3L), DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS_SSS.getFormatter()).length(),
+				i -> DateTimeFormatterUtil.format(start + i * 3L, FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS_SSS).length());
+		Assert.assertEquals((long) ROUNDS * 2 * COUNT * 23, length);
+	}
+	
+	/**
+	 * DateTimeFormatterUtil 类加载耗时，每轮使用新的ClassLoader，对比加载DateTimeFormatterUtil、加载DateTimeFormatterEnum和创建全部已定义Formatter的耗时，
+	 * 加载后所有按pattern定义的Formatter都还未创建
+	 */
+	@Test
+	public void formatterStartupBenchmark() throws Exception{
+		URL classes = DateTimeFormatterUtil.class.getProtectionDomain().getCodeSource().getLocation();
+		for (int round = 0; round < ROUNDS; round++) {
+			try (URLClassLoader loader = new URLClassLoader(new URL[] { classes }, null)) {
+				long t1 = System.nanoTime();
+				Class.forName(DateTimeFormatterUtil.class.getName(), true, loader);
+				long t2 = System.nanoTime();
+				Class<?> enumClass = Class.forName(DateTimeFormatterEnum.class.getName(), true, loader);
+				long t3 = System.nanoTime();
+				Field formatterField = enumClass.getDeclaredField("formatter");
+				formatterField.setAccessible(true);
+				Method getPattern = enumClass.getMethod("getPattern");
+				Method getFormatter = enumClass.getMethod("getFormatter");
+				Object[] constants = enumClass.getEnumConstants();
+				for (Object constant : constants) {
+					if (getPattern.invoke(constant) != null) {
+						Assert.assertNull(formatterField.get(constant));
+					}
+				}
+				long t4 = System.nanoTime();
+				for (Object constant : constants) {
+					Assert.assertNotNull(getFormatter.invoke(constant));
+				}
+				long t5 = System.nanoTime();
+				Assert.assertEquals(39, constants.length);
+				System.out.println("startup DateTimeFormatterUtil: " + (t2 - t1) / 1000 + "us, DateTimeFormatterEnum: "
+						+ (t3 - t2) / 1000 + "us, all " + constants.length + " formatters: " + (t5 - t4) / 1000 + "us");
+			}
+		}
+	}
+}
@@ -1,13 +1,30 @@
 package com.xkzhangsan.time.test;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
 
+import org.junit.Assert;
 import org.junit.Test;
 
+import com.xkzhangsan.time.converter.DateTimeConverterUtil;
+import com.xkzhangsan.time.formatter.DateTimeFormatterCache;
+import com.xkzhangsan.time.formatter.DateTimeFormatterEnum;
 import com.xkzhangsan.time.formatter.DateTimeFormatterUtil;
+import com.xkzhangsan.time.formatter.FastDateTimeFormatter;
 
 public class FormatterTest {
 	
@@ -22,91 +39,91 @@ public class FormatterTest {
 	@Test
 	public void dateFormatTest(){
 		Date date = new Date();
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.HH_MM_SS_FMT));//1
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.HHMMSS_FMT));//2
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.MM_DD_CN_FMT));//3
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.MM_DD_HH_MM_CN_FMT));//4
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.MM_DD_HH_MM_FMT));//5
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.HH_MM_SS.getFormatter()));//1
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.HHMMSS.getFormatter()));//2
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.MM_DD_CN.getFormatter()));//3
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.MM_DD_HH_MM_CN.getFormatter()));//4
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.MM_DD_HH_MM.getFormatter()));//5
 
 		System.out.println("=============================");
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.MM_DD_HH_MM_SS_CN_FMT));//6
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_FMT));//7
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_CN_FMT));//8
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_CN_FMT));//9
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_EN_FMT));//10
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.MM_DD_HH_MM_SS_CN.getFormatter()));//6
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY.getFormatter()));//7
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_CN.getFormatter()));//8
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_CN.getFormatter()));//9
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_EN.getFormatter()));//10
 		
 		System.out.println("=============================");
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_FMT));//11
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_FMT));//12
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_CN_FMT));//13
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_FMT));//14
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_SSS_FMT));//15
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD.getFormatter()));//11
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_HH_MM.getFormatter()));//12
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS_CN.getFormatter()));//13
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS.getFormatter()));//14
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS_SSS.getFormatter()));//15
 		
 		System.out.println("=============================");
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_POINT_FMT));//16
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_EN_FMT));//17
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_FMT));//18
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYYMM_FMT));//19
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYYMMDD_FMT));//20
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_POINT.getFormatter()));//16
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_EN.getFormatter()));//17
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM.getFormatter()));//18
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYYMM.getFormatter()));//19
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYYMMDD.getFormatter()));//20
 		
 		System.out.println("=============================");
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYYMMDDHHMM_FMT));//21
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYYMMDDHHMMSS_FMT));//22
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYYMMDDHHMMSSSSS_FMT));//23
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYYMMDDHHMM.getFormatter()));//21
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYYMMDDHHMMSS.getFormatter()));//22
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYYMMDDHHMMSSSSS.getFormatter()));//23
 	}
 	
 	@Test
 	public void localDateTimeFormatTest(){
 		LocalDateTime lss = LocalDateTime.now();
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.HH_MM_SS_FMT));//1
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.HHMMSS_FMT));//2
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.MM_DD_CN_FMT));//3
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.MM_DD_HH_MM_CN_FMT));//4
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.MM_DD_HH_MM_FMT));//5
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.HH_MM_SS.getFormatter()));//1
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.HHMMSS.getFormatter()));//2
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.MM_DD_CN.getFormatter()));//3
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.MM_DD_HH_MM_CN.getFormatter()));//4
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.MM_DD_HH_MM.getFormatter()));//5
 		
 		System.out.println("=============================");
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.MM_DD_HH_MM_SS_CN_FMT));//6
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYY_FMT));//7
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYY_MM_CN_FMT));//8
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYY_MM_DD_CN_FMT));//9
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYY_MM_DD_EN_FMT));//10
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.MM_DD_HH_MM_SS_CN.getFormatter()));//6
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYY.getFormatter()));//7
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYY_MM_CN.getFormatter()));//8
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYY_MM_DD_CN.getFormatter()));//9
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYY_MM_DD_EN.getFormatter()));//10
 		
 		System.out.println("=============================");
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYY_MM_DD_FMT));//11
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_FMT));//12
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_CN_FMT));//13
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_FMT));//14
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_SSS_FMT));//15
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYY_MM_DD.getFormatter()));//11
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYY_MM_DD_HH_MM.getFormatter()));//12
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS_CN.getFormatter()));//13
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS.getFormatter()));//14
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS_SSS.getFormatter()));//15
 		
 		System.out.println("=============================");
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYY_MM_DD_POINT_FMT));//16
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYY_MM_EN_FMT));//17
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYY_MM_FMT));//18
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYYMM_FMT));//19
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYYMMDD_FMT));//20
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYY_MM_DD_POINT.getFormatter()));//16
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYY_MM_EN.getFormatter()));//17
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYY_MM.getFormatter()));//18
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYYMM.getFormatter()));//19
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYYMMDD.getFormatter()));//20
 		
 		System.out.println("=============================");
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYYMMDDHHMM_FMT));//21
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYYMMDDHHMMSS_FMT));//22
-		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterUtil.YYYYMMDDHHMMSSSSS_FMT));//23
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYYMMDDHHMM.getFormatter()));//21
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYYMMDDHHMMSS.getFormatter()));//22
+		System.out.println(DateTimeFormatterUtil.format(lss, DateTimeFormatterEnum.YYYYMMDDHHMMSSSSS.getFormatter()));//23
 	}
 	
 	@Test
 	public void parseToDateTest(){
-		System.out.println(DateTimeFormatterUtil.parseToDate("2019年12月01日 17:03:03", DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_CN_FMT));
-		System.out.println(DateTimeFormatterUtil.parseToDate("2019-12-01 17:03:03", DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_FMT));
+		System.out.println(DateTimeFormatterUtil.parseToDate("2019年12月01日 17:03:03", DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS_CN.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.parseToDate("2019-12-01 17:03:03", DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS.getFormatter()));
 	}
 	
 	@Test
 	public void parseToLocalDateTimeTest(){
-		System.out.println(DateTimeFormatterUtil.parseToLocalDateTime("2019年12月01日 17:03:03", DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_CN_FMT));
-		System.out.println(DateTimeFormatterUtil.parseToLocalDateTime("2019-12-01 17:03:03", DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_FMT));
+		System.out.println(DateTimeFormatterUtil.parseToLocalDateTime("2019年12月01日 17:03:03", DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS_CN.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.parseToLocalDateTime("2019-12-01 17:03:03", DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS.getFormatter()));
 	}
 	
 	@Test
 	public void parseToInstantTest(){
-		System.out.println(DateTimeFormatterUtil.parseToInstant("2019年12月01日 17:03:03", DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_CN_FMT));
-		System.out.println(DateTimeFormatterUtil.parseToInstant("2019-12-01 17:03:03", DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_FMT));
+		System.out.println(DateTimeFormatterUtil.parseToInstant("2019年12月01日 17:03:03", DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS_CN.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.parseToInstant("2019-12-01 17:03:03", DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS.getFormatter()));
 	}
 	
 	/**
@@ -118,22 +135,22 @@ public class FormatterTest {
 		//默认为巴黎时区
 		ZonedDateTime zonedDateTime = ZonedDateTime.now(ZoneId.of("Europe/Paris"));
 		//2020-02-18T22:37:55+0800
-		System.out.println(DateTimeFormatterUtil.format(zonedDateTime, DateTimeFormatterUtil.YYYY_MM_DD_T_HH_MM_SS_Z_FMT));
+		System.out.println(DateTimeFormatterUtil.format(zonedDateTime, DateTimeFormatterEnum.YYYY_MM_DD_T_HH_MM_SS_Z.getFormatter()));
 		
-		System.out.println(zonedDateTime.format(DateTimeFormatterUtil.ISO_DATE_FMT));
-		System.out.println(zonedDateTime.format(DateTimeFormatterUtil.ISO_DATE_TIME_FMT));
-		System.out.println(zonedDateTime.format(DateTimeFormatterUtil.ISO_INSTANT_FMT));
-		System.out.println(zonedDateTime.format(DateTimeFormatterUtil.ISO_LOCAL_DATE_FMT));
-		System.out.println(zonedDateTime.format(DateTimeFormatterUtil.ISO_LOCAL_DATE_TIME_FMT));
-		System.out.println(zonedDateTime.format(DateTimeFormatterUtil.ISO_LOCAL_TIME_FMT));
+		System.out.println(zonedDateTime.format(DateTimeFormatterEnum.ISO_DATE.getFormatter()));
+		System.out.println(zonedDateTime.format(DateTimeFormatterEnum.ISO_DATE_TIME.getFormatter()));
+		System.out.println(zonedDateTime.format(DateTimeFormatterEnum.ISO_INSTANT.getFormatter()));
+		System.out.println(zonedDateTime.format(DateTimeFormatterEnum.ISO_LOCAL_DATE.getFormatter()));
+		System.out.println(zonedDateTime.format(DateTimeFormatterEnum.ISO_LOCAL_DATE_TIME.getFormatter()));
+		System.out.println(zonedDateTime.format(DateTimeFormatterEnum.ISO_LOCAL_TIME.getFormatter()));
 		
-		System.out.println(zonedDateTime.format(DateTimeFormatterUtil.ISO_TIME_FMT));
-		System.out.println(zonedDateTime.format(DateTimeFormatterUtil.ISO_WEEK_DATE_FMT));
-		System.out.println(zonedDateTime.format(DateTimeFormatterUtil.ISO_ZONED_DATE_TIME_FMT));
-		System.out.println(zonedDateTime.format(DateTimeFormatterUtil.BASIC_ISO_DATE_FMT));
+		System.out.println(zonedDateTime.format(DateTimeFormatterEnum.ISO_TIME.getFormatter()));
+		System.out.println(zonedDateTime.format(DateTimeFormatterEnum.ISO_WEEK_DATE.getFormatter()));
+		System.out.println(zonedDateTime.format(DateTimeFormatterEnum.ISO_ZONED_DATE_TIME.getFormatter()));
+		System.out.println(zonedDateTime.format(DateTimeFormatterEnum.BASIC_ISO_DATE.getFormatter()));
 		
 		System.out.println("=========其他格式化重新设置时区，用于非系统默认时区时间格式化=========");
-		System.out.println(zonedDateTime.format(DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_SSS_FMT.withZone(ZoneId.of("Europe/Paris"))));
+		System.out.println(zonedDateTime.format(DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS_SSS.getFormatter().withZone(ZoneId.of("Europe/Paris"))));
 	}
 	
 	/**
@@ -143,14 +160,214 @@ public class FormatterTest {
 	@Test
 	public void parseToZonedDateTimeTest(){
 		String text = "2020-02-18T22:37:55+0800";
-		ZonedDateTime zonedDateTime = DateTimeFormatterUtil.parseToZonedDateTime(text, DateTimeFormatterUtil.YYYY_MM_DD_T_HH_MM_SS_Z_FMT);
+		ZonedDateTime zonedDateTime = DateTimeFormatterUtil.parseToZonedDateTime(text, DateTimeFormatterEnum.YYYY_MM_DD_T_HH_MM_SS_Z.getFormatter());
 		System.out.println(zonedDateTime);
 		
 		String text2 = "2020-02-19T12:30:25.121+08:00[Asia/Shanghai]";
-		ZonedDateTime zonedDateTime2 = DateTimeFormatterUtil.parseToZonedDateTime(text2, DateTimeFormatterUtil.ISO_ZONED_DATE_TIME_FMT);
+		ZonedDateTime zonedDateTime2 = DateTimeFormatterUtil.parseToZonedDateTime(text2, DateTimeFormatterEnum.ISO_ZONED_DATE_TIME.getFormatter());
 		System.out.println(zonedDateTime2);
 		
 		ZonedDateTime zonedDateTime3 = ZonedDateTime.parse(text2);
 		System.out.println(zonedDateTime3);
 	}
+
+	/**
+	 * 快速格式化，与DateTimeFormatter结果相同
+	 */
+	@Test
+	public void fastFormatTest() throws Exception{
+		Random random = new Random(20191201);
+		LocalDateTime[] localDateTimes = new LocalDateTime[1000];
+		for (int i = 0; i < localDateTimes.length; i++) {
+			localDateTimes[i] = LocalDateTime.of(1 + random.nextInt(9999), 1, 1, 0, 0)
+					.plusSeconds(random.nextInt(366 * 24 * 3600)).withNano(random.nextInt(1000_000_000));
+		}
+		for (Field field : FastDateTimeFormatter.class.getFields()) {
+			if (!Modifier.isStatic(field.getModifiers()) || field.getType() != FastDateTimeFormatter.class) {
+				continue;
+			}
+			FastDateTimeFormatter fastFormatter = (FastDateTimeFormatter) field.get(null);
+			DateTimeFormatter formatter = DateTimeFormatter.ofPattern(fastFormatter.getPattern());
+			for (LocalDateTime localDateTime : localDateTimes) {
+				Assert.assertEquals(localDateTime.format(formatter), fastFormatter.format(localDateTime));
+			}
+			//年份超出1-9999
+			Assert.assertEquals(LocalDateTime.of(10000, 1, 2, 3, 4).format(formatter), fastFormatter.format(LocalDateTime.of(10000, 1, 2, 3, 4)));
+			Assert.assertEquals(LocalDateTime.of(0, 1, 2, 3, 4).format(formatter), fastFormatter.format(LocalDateTime.of(0, 1, 2, 3, 4)));
+		}
+		Assert.assertEquals("2019-12-01", FastDateTimeFormatter.YYYY_MM_DD.format(LocalDate.of(2019, 12, 1)));
+		Assert.assertEquals("17:03:03", FastDateTimeFormatter.HH_MM_SS.format(LocalTime.of(17, 3, 3)));
+		StringBuilder sb = new StringBuilder("time=");
+		FastDateTimeFormatter.YYYYMMDDHHMMSSSSS.formatTo(LocalDateTime.of(2019, 12, 1, 17, 3, 3, 7000_000), sb);
+		Assert.assertEquals("time=20191201170303007", sb.toString());
+		Assert.assertEquals("2019-12-01T17:03", FastDateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm").format(LocalDateTime.of(2019, 12, 1, 17, 3)));
+		Assert.assertEquals("2019-12-01 17:03:03", DateTimeFormatterUtil.formatToDateTimeStr(LocalDateTime.of(2019, 12, 1, 17, 3, 3)));
+		Assert.assertEquals("2019-12-01", DateTimeFormatterUtil.format(LocalDate.of(2019, 12, 1), FastDateTimeFormatter.YYYY_MM_DD));
+		try {
+			DateTimeFormatterUtil.format(LocalDate.of(2019, 12, 1), FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS);
+			Assert.fail();
+		} catch (UnsupportedTemporalTypeException e) {
+			//expected
+		}
+		try {
+			FastDateTimeFormatter.ofPattern("yyyy-MM-dd E");
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+			//expected
+		}
+	}
+	
+	/**
+	 * 快速解析，与DateTimeFormatter结果相同
+	 */
+	@Test
+	public void fastParseTest() throws Exception{
+		Random random = new Random(20191201);
+		ZoneId shanghai = ZoneId.of("Asia/Shanghai");
+		for (Field field : FastDateTimeFormatter.class.getFields()) {
+			if (!Modifier.isStatic(field.getModifiers()) || field.getType() != FastDateTimeFormatter.class) {
+				continue;
+			}
+			FastDateTimeFormatter fastFormatter = (FastDateTimeFormatter) field.get(null);
+			if (!fastFormatter.getPattern().contains("dd") || !fastFormatter.getPattern().contains("yyyy")) {
+				continue;
+			}
+			DateTimeFormatter formatter = DateTimeFormatter.ofPattern(fastFormatter.getPattern());
+			for (int i = 0; i < 1000; i++) {
+				LocalDateTime localDateTime = LocalDateTime.of(1 + random.nextInt(9999), 1, 1, 0, 0)
+						.plusSeconds(random.nextInt(366 * 24 * 3600)).withNano(random.nextInt(1000) * 1000_000);
+				String text = fastFormatter.format(localDateTime);
+				LocalDateTime expected = fastFormatter.getPattern().contains("HH") ? LocalDateTime.parse(text, formatter)
+						: LocalDate.parse(text, formatter).atStartOfDay();
+				Assert.assertEquals(expected, fastFormatter.parseToLocalDateTime(text));
+				Assert.assertEquals(expected.toInstant(ZoneOffset.ofHours(8)).toEpochMilli(), fastFormatter.parseToEpochMilli(text, ZoneOffset.ofHours(8)));
+				Assert.assertEquals(expected.atZone(shanghai).toInstant().toEpochMilli(), fastFormatter.parseToEpochMilli(text, shanghai));
+			}
+		}
+		//日大于当月天数时取当月最后一天，同ResolverStyle.SMART
+		Assert.assertEquals(LocalDate.parse("2019-02-30", DateTimeFormatter.ofPattern("yyyy-MM-dd")), FastDateTimeFormatter.YYYY_MM_DD.parseToLocalDate("2019-02-30"));
+		Assert.assertEquals(LocalDate.of(2020, 2, 29), FastDateTimeFormatter.YYYY_MM_DD.parseToLocalDate("2020-02-31"));
+		Assert.assertEquals(LocalTime.of(17, 3, 3), FastDateTimeFormatter.HH_MM_SS.parseToLocalTime("17:03:03"));
+		Assert.assertEquals(LocalDateTime.of(2019, 12, 1, 0, 0), DateTimeFormatterUtil.parseDateStrToLocalDateTime("2019-12-01"));
+		Assert.assertEquals(LocalDateTime.of(2019, 12, 1, 17, 3, 3), DateTimeFormatterUtil.parseDateTimeStrToLocalDateTime("2019-12-01 17:03:03"));
+		Assert.assertEquals(DateTimeConverterUtil.toDate(LocalDateTime.of(2019, 12, 1, 17, 3, 3)), DateTimeFormatterUtil.parseDateTimeStrToDate("2019-12-01 17:03:03"));
+		for (String text : new String[] { "2019-13-01", "2019-00-01", "2019-12-32", "0000-12-01", "2019-12-1", "2019/12/01", "2019-1a-01", "2019-12-011" }) {
+			try {
+				FastDateTimeFormatter.YYYY_MM_DD.parseToLocalDate(text);
+				Assert.fail(text);
+			} catch (DateTimeParseException e) {
+				//expected
+			}
+		}
+		try {
+			FastDateTimeFormatter.MM_DD.parseToLocalDateTime("12-01");
+			Assert.fail();
+		} catch (DateTimeParseException e) {
+			//expected
+		}
+	}
+	
+	/**
+	 * epochMilli格式化，包括夏令时切换和乱序时间
+	 */
+	@Test
+	public void fastFormatEpochMilliTest(){
+		ZoneId newYork = ZoneId.of("America/New_York");
+		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+		//2020-03-08和2020-11-01 夏令时切换
+		for (long start : new long[] { 1583643600000L, 1604203200000L }) {
+			for (long epochMilli = start; epochMilli < start + 4 * 3600_000L; epochMilli += 997) {
+				Assert.assertEquals(Instant.ofEpochMilli(epochMilli).atZone(newYork).format(formatter),
+						FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS_SSS.format(epochMilli, newYork));
+				Assert.assertEquals(Instant.ofEpochMilli(epochMilli).atZone(ZoneOffset.UTC).format(DateTimeFormatterEnum.YYYYMMDDHHMMSS.getFormatter()),
+						FastDateTimeFormatter.YYYYMMDDHHMMSS.format(epochMilli, ZoneOffset.UTC));
+			}
+		}
+		Random random = new Random(20191201);
+		for (int i = 0; i < 10000; i++) {
+			long epochMilli = random.nextLong() % 253402300800000L;
+			Assert.assertEquals(Instant.ofEpochMilli(epochMilli).atZone(newYork).format(formatter),
+					FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS_SSS.format(epochMilli, newYork));
+		}
+		Date date = new Date(1575190983123L);
+		Assert.assertEquals(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS_SSS.getFormatter()),
+				DateTimeFormatterUtil.format(date.getTime(), FastDateTimeFormatter.YYYY_MM_DD_HH_MM_SS_SSS));
+		Assert.assertEquals(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS.getFormatter()),
+				DateTimeFormatterUtil.formatToDateTimeStr(date));
+	}
+	
+	/**
+	 * pattern缓存测试
+	 */
+	@Test
+	public void formatterCacheTest(){
+		DateTimeFormatterCache.clear();
+		try {
+			String pattern = "yyyy/MM/dd HH:mm";
+			DateTimeFormatter formatter = DateTimeFormatterUtil.getFormatter(pattern);
+			Assert.assertSame(formatter, DateTimeFormatterUtil.getFormatter(pattern));
+			Assert.assertEquals(1, DateTimeFormatterCache.getMissCount());
+			Assert.assertEquals(1, DateTimeFormatterCache.getHitCount());
+			Assert.assertEquals(1, DateTimeFormatterCache.getSize());
+			Assert.assertEquals(0.5, DateTimeFormatterCache.getHitRate(), 0);
+			Assert.assertNotSame(formatter, DateTimeFormatterUtil.getFormatter(pattern, Locale.US, ZoneOffset.UTC));
+			Assert.assertNotSame(formatter, DateTimeFormatterUtil.getFormatter(pattern, null, null));
+			
+			LocalDateTime localDateTime = LocalDateTime.of(2021, 3, 5, 8, 9, 10);
+			Assert.assertEquals("2021/03/05 08:09", DateTimeFormatterUtil.format(localDateTime, pattern));
+			Assert.assertEquals("2021/03/05", DateTimeFormatterUtil.format(localDateTime.toLocalDate(), "yyyy/MM/dd"));
+			Date date = DateTimeConverterUtil.toDate(localDateTime);
+			Assert.assertEquals("2021/03/05 08:09", DateTimeFormatterUtil.format(date, pattern));
+			Assert.assertEquals("2021/03/05 08:09", DateTimeFormatterUtil.format(date.toInstant(), pattern));
+			Assert.assertEquals(localDateTime.withSecond(0), DateTimeFormatterUtil.parseToLocalDateTime("2021/03/05 08:09", pattern));
+			Assert.assertEquals(DateTimeConverterUtil.toDate(localDateTime.withSecond(0)), DateTimeFormatterUtil.parseToDate("2021/03/05 08:09", pattern));
+			Assert.assertEquals(date.toInstant().minusSeconds(10), DateTimeFormatterUtil.parseToInstant("2021/03/05 08:09", pattern));
+			
+			//容量为1时，不同pattern互相覆盖，大小不超过容量
+			DateTimeFormatterCache.setCapacity(1);
+			Assert.assertEquals(1, DateTimeFormatterCache.getCapacity());
+			DateTimeFormatter first = DateTimeFormatterUtil.getFormatter("yyyy");
+			DateTimeFormatterUtil.getFormatter("MM");
+			Assert.assertNotSame(first, DateTimeFormatterUtil.getFormatter("yyyy"));
+			Assert.assertEquals(1, DateTimeFormatterCache.getSize());
+			
+			//容量为2时只有1组，所有pattern都映射到同一组，两个pattern交替使用都保持缓存，第3个淘汰较早放入的
+			DateTimeFormatterCache.setCapacity(2);
+			DateTimeFormatter yyyy = DateTimeFormatterUtil.getFormatter("yyyy");
+			DateTimeFormatter mm = DateTimeFormatterUtil.getFormatter("MM");
+			long missCount = DateTimeFormatterCache.getMissCount();
+			for (int i = 0; i < 10; i++) {
+				Assert.assertSame(yyyy, DateTimeFormatterUtil.getFormatter("yyyy"));
+				Assert.assertSame(mm, DateTimeFormatterUtil.getFormatter("MM"));
+			}
+			Assert.assertEquals(missCount, DateTimeFormatterCache.getMissCount());
+			Assert.assertEquals(2, DateTimeFormatterCache.getSize());
+			DateTimeFormatterUtil.getFormatter("dd");
+			Assert.assertSame(mm, DateTimeFormatterUtil.getFormatter("MM"));
+			Assert.assertNotSame(yyyy, DateTimeFormatterUtil.getFormatter("yyyy"));
+			Assert.assertEquals(2, DateTimeFormatterCache.getSize());
+			DateTimeFormatterCache.setCapacity(100);
+			Assert.assertEquals(128, DateTimeFormatterCache.getCapacity());
+		} finally {
+			DateTimeFormatterCache.setCapacity(DateTimeFormatterCache.DEFAULT_CAPACITY);
+		}
+	}
+	
+	/**
+	 * DateTimeFormatterEnum 第一次调用getFormatter()时创建，之后返回同一个Formatter
+	 */
+	@Test
+	public void formatterEnumTest(){
+		LocalDateTime localDateTime = LocalDateTime.of(2019, 12, 3, 21, 47, 31, 991_000_000);
+		for (DateTimeFormatterEnum formatterEnum : DateTimeFormatterEnum.values()) {
+			DateTimeFormatter formatter = formatterEnum.getFormatter();
+			Assert.assertSame(formatter, formatterEnum.getFormatter());
+			if (formatterEnum.getPattern() != null && !formatterEnum.getPattern().endsWith("Z")) {
+				Assert.assertEquals(localDateTime.format(DateTimeFormatter.ofPattern(formatterEnum.getPattern())), localDateTime.format(formatter));
+			}
+		}
+		Assert.assertEquals("2019-12-03 21:47:31", localDateTime.format(DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS.getFormatter()));
+		Assert.assertEquals("1203", MonthDay.of(12, 3).format(DateTimeFormatterEnum.MMDD.getFormatter()));
+		Assert.assertSame(DateTimeFormatter.ISO_DATE, DateTimeFormatterEnum.ISO_DATE.getFormatter());
+	}
 }
@@ -1,12 +1,36 @@
 package com.xkzhangsan.time.test;
 
+import java.time.DayOfWeek;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
+import org.junit.Assert;
 import org.junit.Test;
 
+import com.xkzhangsan.time.LunarDate;
+import com.xkzhangsan.time.calendar.CalendarUtil;
+import com.xkzhangsan.time.calendar.CalendarWrapper;
+import com.xkzhangsan.time.holiday.BusinessDayIndex;
+import com.xkzhangsan.time.holiday.ChineseHolidayEnum;
+import com.xkzhangsan.time.holiday.ChineseHolidayRuleSet;
 import com.xkzhangsan.time.holiday.Holiday;
+import com.xkzhangsan.time.holiday.HolidayCalendar;
+import com.xkzhangsan.time.holiday.HolidayCalendarFile;
+import com.xkzhangsan.time.holiday.HolidayEntry;
+import com.xkzhangsan.time.holiday.HolidayRuleSet;
+import com.xkzhangsan.time.holiday.LocalHolidayEnum;
 
 public class HolidayTest {
 
@@ -42,4 +66,292 @@ public class HolidayTest {
 		LocalDate localDate = LocalDate.of(2020, 8, 7);
 		System.out.println(Holiday.getSolarTerm(localDate));
 	}
+	
+	/**
+	 * 编译后的公历节日规则，与逐条对比结果相同
+	 */
+	@Test
+	public void holidayRuleSetTest(){
+		Map<String, String> localHolidayMap = LocalHolidayEnum.convertToMap();
+		localHolidayMap.put("0510", "自定义节日");
+		localHolidayMap.put("12-W-5-7", "12月第5个星期天");
+		HolidayRuleSet holidayRuleSet = HolidayRuleSet.compile(localHolidayMap);
+		for (LocalDate localDate = LocalDate.of(2015, 1, 1); localDate.getYear() < 2031; localDate = localDate.plusDays(1)) {
+			Assert.assertEquals(Holiday.getLocalHoliday(localDate, localHolidayMap), holidayRuleSet.getHoliday(localDate));
+			Assert.assertEquals(Holiday.getLocalHoliday(localDate, LocalHolidayEnum.convertToMap()),
+					Holiday.getLocalHoliday(localDate));
+		}
+		//2020-05-10 母亲节
+		Assert.assertTrue(Holiday.getLocalHoliday(LocalDate.of(2020, 5, 10)).contains("母亲节"));
+		System.out.println(holidayRuleSet.getHoliday(LocalDate.of(2020, 5, 10)));
+	}
+	
+	/**
+	 * 工作日索引，与逐日判断结果相同
+	 */
+	@Test
+	public void businessDayIndexTest(){
+		Map<String, String> localHolidayMap = new HashMap<String, String>();
+		localHolidayMap.put("0101", "元旦");
+		localHolidayMap.put("1001", "国庆节");
+		Map<String, String> chineseHolidayMap = new HashMap<String, String>();
+		chineseHolidayMap.put("0101", "春节");
+		chineseHolidayMap.put("CHUXI", "除夕");
+		BusinessDayIndex businessDayIndex = new BusinessDayIndex(localHolidayMap, chineseHolidayMap);
+		
+		//2020-01-24 除夕，2020-01-25 春节（周六），2020-01-01 元旦
+		Assert.assertFalse(businessDayIndex.isBusinessDay(LocalDate.of(2020, 1, 24)));
+		Assert.assertFalse(businessDayIndex.isBusinessDay(LocalDate.of(2020, 1, 1)));
+		Assert.assertTrue(businessDayIndex.isBusinessDay(LocalDate.of(2020, 1, 23)));
+		Assert.assertEquals(LocalDate.of(2020, 1, 27), businessDayIndex.nextBusinessDay(LocalDate.of(2020, 1, 23)));
+		Assert.assertEquals(LocalDate.of(2020, 1, 23), businessDayIndex.previousBusinessDay(LocalDate.of(2020, 1, 27)));
+		
+		LocalDate start = LocalDate.of(2019, 12, 1);
+		int count = 0;
+		for (LocalDate localDate = start; localDate.getYear() < 2022; localDate = localDate.plusDays(1)) {
+			boolean businessDay = localDate.getDayOfWeek().getValue() < DayOfWeek.SATURDAY.getValue()
+					&& !localHolidayMap.containsKey(String.format("%02d%02d", localDate.getMonthValue(), localDate.getDayOfMonth()))
+					&& Holiday.getChineseHoliday(localDate, chineseHolidayMap).isEmpty();
+			Assert.assertEquals(localDate.toString(), businessDay, businessDayIndex.isBusinessDay(localDate));
+			Assert.assertEquals(count, businessDayIndex.countBusinessDays(start, localDate));
+			if (businessDay) {
+				count++;
+				Assert.assertEquals(localDate, businessDayIndex.plusBusinessDays(start.minusDays(1), count));
+			}
+		}
+		Assert.assertEquals(-count, businessDayIndex.countBusinessDays(LocalDate.of(2022, 1, 1), start));
+		//只包含周末
+		Assert.assertEquals(5, BusinessDayIndex.ofWeekend().countBusinessDays(LocalDate.of(2020, 1, 20), LocalDate.of(2020, 1, 27)));
+	}
+	
+	/**
+	 * 编译后的农历节日，与逐条对比结果相同
+	 */
+	@Test
+	public void chineseHolidayRuleSetTest(){
+		Map<String, String> chineseHolidayMap = ChineseHolidayEnum.convertToMap();
+		ChineseHolidayRuleSet chineseHolidayRuleSet = ChineseHolidayRuleSet.getDefault();
+		for (LocalDate localDate = LunarDate.minSupportedDate(); !localDate.isAfter(LunarDate.maxSupportedDate()); localDate = localDate.plusDays(1)) {
+			Assert.assertEquals(Holiday.getChineseHoliday(localDate, chineseHolidayMap), chineseHolidayRuleSet.getHoliday(localDate));
+		}
+		//支持的最后一天2101-01-28为2100年腊月廿九，是除夕
+		Assert.assertEquals(" 除夕", Holiday.getChineseHoliday(LocalDate.of(2101, 1, 28)));
+		//2020-01-24 除夕，2020-01-25 春节
+		Assert.assertEquals(" 除夕", Holiday.getChineseHoliday(LocalDate.of(2020, 1, 24)));
+		Assert.assertEquals(" 春节", Holiday.getChineseHoliday(LocalDate.of(2020, 1, 25)));
+		//2023年闰二月初二不是龙抬头
+		Assert.assertEquals(" 龙抬头", Holiday.getChineseHoliday(LunarDate.of(2023, 2, 2).getLocalDate()));
+		Assert.assertEquals("", Holiday.getChineseHoliday(LunarDate.of(2023, 2, 2, true).getLocalDate()));
+	}
+
+	/**
+	 * 节日日历注册和使用
+	 */
+	@Test
+	public void holidayCalendarTest(){
+		HolidayCalendar mainland = HolidayCalendar.get(HolidayCalendar.CN_MAINLAND);
+		Assert.assertSame(HolidayCalendar.getDefault(), mainland);
+		Assert.assertEquals(" 除夕", Holiday.getChineseHoliday(mainland, LocalDate.of(2020, 1, 24)));
+		Assert.assertEquals(Holiday.getLocalHoliday(LocalDate.of(2020, 10, 1)), Holiday.getLocalHoliday(mainland, LocalDate.of(2020, 10, 1)));
+		
+		//香港 2020-04-30 佛诞，2020-07-01 特区成立纪念日
+		HolidayCalendar hongKong = HolidayCalendar.get(HolidayCalendar.CN_HK);
+		Assert.assertEquals(" 佛诞", hongKong.getChineseHoliday(LocalDate.of(2020, 4, 30)));
+		Assert.assertEquals(" 香港特别行政区成立纪念日", Holiday.getLocalHoliday(hongKong, LocalDate.of(2020, 7, 1)));
+		Assert.assertFalse(hongKong.getBusinessDayIndex().isBusinessDay(LocalDate.of(2020, 7, 1)));
+		Assert.assertTrue(mainland.getBusinessDayIndex().isBusinessDay(LocalDate.of(2020, 7, 1)));
+		//工作日索引与节日规则一致
+		for (HolidayEntry holidayEntry : hongKong.between(LocalDate.of(1900, 1, 1), LocalDate.of(2100, 12, 31))) {
+			Assert.assertFalse(hongKong.getBusinessDayIndex().isBusinessDay(holidayEntry.getLocalDate()));
+		}
+		Assert.assertTrue(HolidayCalendar.getNames().contains(HolidayCalendar.CN_HK));
+		
+		//自定义日历
+		Map<String, String> localHolidayMap = new HashMap<>();
+		localHolidayMap.put("0601", "公司纪念日");
+		HolidayCalendar custom = HolidayCalendar.of("custom", localHolidayMap, null);
+		HolidayCalendar.register(custom);
+		Assert.assertTrue(HolidayCalendar.getNames().contains("custom"));
+		Assert.assertEquals(" 公司纪念日", HolidayCalendar.get("custom").getLocalHoliday(LocalDate.of(2020, 6, 1)));
+		Assert.assertEquals(" 端午节", HolidayCalendar.get("custom").getChineseHoliday(LocalDate.of(2020, 6, 25)));
+		Assert.assertSame(custom, HolidayCalendar.unregister("custom"));
+		Assert.assertNull(HolidayCalendar.get("custom"));
+		
+		//日历使用节日日历
+		CalendarWrapper calendarWrapper = CalendarUtil.generateCalendarWithHoliday(2020, 1, mainland);
+		Assert.assertEquals(" 除夕", calendarWrapper.getDayMap().get("2020-01-24").getChineseHoliday());
+		Assert.assertNotNull(calendarWrapper.getDayMap().get("2020-01-24").getLunarDate());
+	}
+
+	/**
+	 * 官方放假调休安排
+	 */
+	@Test
+	public void adjustedBusinessDayTest(){
+		BusinessDayIndex official = BusinessDayIndex.ofOfficial();
+		//2020-01-19 周日调休上班，2020-01-31 春节延长假期，2020-02-01 取消调休
+		Assert.assertTrue(official.isBusinessDay(LocalDate.of(2020, 1, 19)));
+		Assert.assertFalse(official.isBusinessDay(LocalDate.of(2020, 1, 31)));
+		Assert.assertFalse(official.isBusinessDay(LocalDate.of(2020, 2, 1)));
+		Assert.assertEquals(LocalDate.of(2020, 10, 9), official.nextBusinessDay(LocalDate.of(2020, 9, 30)));
+		Assert.assertEquals(LocalDate.of(2020, 10, 10), official.nextBusinessDay(LocalDate.of(2020, 10, 9)));
+		//2021年250个工作日
+		Assert.assertEquals(250, official.countBusinessDays(LocalDate.of(2021, 1, 1), LocalDate.of(2022, 1, 1)));
+		//没有调休文件的年份只排除周末
+		Assert.assertEquals(BusinessDayIndex.ofWeekend().countBusinessDays(LocalDate.of(2019, 1, 1), LocalDate.of(2020, 1, 1)),
+				official.countBusinessDays(LocalDate.of(2019, 1, 1), LocalDate.of(2020, 1, 1)));
+		Assert.assertSame(official, HolidayCalendar.getDefault().getBusinessDayIndex());
+		//2024-02-12 春节假期，2024-02-18 周日调休上班，2025年248个工作日
+		Assert.assertFalse(official.isBusinessDay(LocalDate.of(2024, 2, 12)));
+		Assert.assertTrue(official.isBusinessDay(LocalDate.of(2024, 2, 18)));
+		Assert.assertEquals(248, official.countBusinessDays(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1)));
+		//收录的年份
+		Assert.assertEquals(Arrays.asList(2020, 2021, 2022, 2023, 2024, 2025), official.getAdjustedYears());
+		Assert.assertTrue(official.isAdjustedYear(2024));
+		Assert.assertFalse(official.isAdjustedYear(2019));
+		Assert.assertFalse(BusinessDayIndex.ofWeekend().isAdjustedYear(2024));
+		
+		//自定义调休
+		BusinessDayIndex adjusted = BusinessDayIndex.ofWeekend().withAdjustedDays(Arrays.asList(LocalDate.of(2022, 1, 29)),
+				Arrays.asList(LocalDate.of(2022, 1, 31), LocalDate.of(2022, 2, 1)));
+		Assert.assertTrue(adjusted.isBusinessDay(LocalDate.of(2022, 1, 29)));
+		Assert.assertEquals(LocalDate.of(2022, 2, 2), adjusted.nextBusinessDay(LocalDate.of(2022, 1, 29)));
+		Assert.assertTrue(BusinessDayIndex.ofWeekend().isBusinessDay(LocalDate.of(2022, 1, 31)));
+		String text = "# 2022\n2022-01-29 W 春节调休上班\n2022-01-31~2022-02-06 H 春节\n";
+		BusinessDayIndex fromFile = BusinessDayIndex.ofWeekend().withAdjustedDays(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+		Assert.assertEquals(LocalDate.of(2022, 2, 7), fromFile.nextBusinessDay(LocalDate.of(2022, 1, 29)));
+		Assert.assertEquals(Arrays.asList(2022), fromFile.getAdjustedYears());
+		Assert.assertEquals(Arrays.asList(2022), adjusted.getAdjustedYears());
+	}
+
+	/**
+	 * 节日日历文件写入和映射，与原日历结果相同
+	 */
+	@Test
+	public void holidayCalendarFileTest() throws IOException{
+		Path path = Files.createTempFile("holiday", ".dat");
+		try {
+			HolidayCalendar hongKong = HolidayCalendar.get(HolidayCalendar.CN_HK);
+			HolidayCalendarFile.write(hongKong, path);
+			HolidayCalendar mapped = HolidayCalendarFile.map(path);
+			Assert.assertEquals(HolidayCalendar.CN_HK, mapped.getName());
+			Assert.assertNull(mapped.getLocalRuleSet());
+			for (LocalDate localDate = LocalDate.of(1900, 1, 1); localDate.getYear() <= 2100; localDate = localDate.plusDays(1)) {
+				Assert.assertEquals(hongKong.getLocalHoliday(localDate), mapped.getLocalHoliday(localDate));
+				Assert.assertEquals(hongKong.getChineseHoliday(localDate), mapped.getChineseHoliday(localDate));
+			}
+			Assert.assertEquals(" 佛诞", Holiday.getChineseHoliday(mapped, LocalDate.of(2020, 4, 30)));
+			Assert.assertEquals(hongKong.between(LocalDate.of(2019, 6, 1), LocalDate.of(2021, 6, 1)),
+					Holiday.between(mapped, LocalDate.of(2019, 6, 1), LocalDate.of(2021, 6, 1)));
+			Assert.assertEquals(hongKong.between(LocalDate.of(1900, 1, 1), LocalDate.of(2100, 12, 31)),
+					mapped.between(LocalDate.of(1899, 1, 1), LocalDate.of(2102, 1, 1)));
+			Assert.assertEquals(hongKong.between(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 1)),
+					mapped.between(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 1)));
+			Assert.assertTrue(mapped.between(LocalDate.of(2020, 1, 2), LocalDate.of(2020, 1, 1)).isEmpty());
+			Assert.assertTrue(mapped.between(LocalDate.of(2102, 1, 1), LocalDate.of(2103, 1, 1)).isEmpty());
+			Assert.assertEquals("", mapped.getLocalHoliday(LocalDate.of(2101, 1, 1)));
+			Assert.assertEquals(hongKong.getBusinessDayIndex().countBusinessDays(LocalDate.of(1900, 1, 1), LocalDate.of(2101, 1, 1)),
+					mapped.getBusinessDayIndex().countBusinessDays(LocalDate.of(1900, 1, 1), LocalDate.of(2101, 1, 1)));
+			//调休年份
+			HolidayCalendarFile.write(HolidayCalendar.getDefault(), path);
+			Assert.assertEquals(BusinessDayIndex.ofOfficial().getAdjustedYears(),
+					HolidayCalendarFile.map(path).getBusinessDayIndex().getAdjustedYears());
+			
+			//不是节日日历文件
+			Files.write(path, "0101 元旦".getBytes(StandardCharsets.UTF_8));
+			try {
+				HolidayCalendarFile.map(path);
+				Assert.fail();
+			} catch (IOException e) {
+				//expected
+			}
+		} finally {
+			Files.delete(path);
+		}
+	}
+
+	/**
+	 * 节日日历热加载
+	 */
+	@Test
+	public void holidayCalendarReloadTest() throws Exception{
+		HolidayCalendar mainland = HolidayCalendar.getDefault();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			//2026-02-16 除夕放假，2026年不在官方调休数据中
+			String text = "2026-02-14 W 春节调休上班\n2026-02-15~2026-02-23 H 春节\n";
+			HolidayCalendar reloaded = HolidayCalendar.reloadAsync(() -> HolidayCalendar.of(HolidayCalendar.CN_MAINLAND, null, null,
+					mainland.getBusinessDayIndex().withAdjustedDays(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)))),
+					executor).get();
+			Assert.assertSame(reloaded, HolidayCalendar.getDefault());
+			Assert.assertSame(reloaded, HolidayCalendar.get(HolidayCalendar.CN_MAINLAND));
+			Assert.assertTrue(HolidayCalendar.getLastReloadNanos(HolidayCalendar.CN_MAINLAND) > 0);
+			Assert.assertFalse(HolidayCalendar.getDefault().getBusinessDayIndex().isBusinessDay(LocalDate.of(2026, 2, 16)));
+			Assert.assertTrue(mainland.getBusinessDayIndex().isBusinessDay(LocalDate.of(2026, 2, 16)));
+			Assert.assertEquals(" 除夕", Holiday.getChineseHoliday(HolidayCalendar.getDefault(), LocalDate.of(2026, 2, 16)));
+			
+			//默认查询读取加载后的日历
+			Map<String, String> localHolidayMap = new HashMap<>();
+			localHolidayMap.put("0102", "测试节");
+			Map<String, String> chineseHolidayMap = new HashMap<>();
+			chineseHolidayMap.put("0102", "农历测试节");
+			HolidayCalendar.reload(() -> HolidayCalendar.of(HolidayCalendar.CN_MAINLAND, localHolidayMap, chineseHolidayMap, null));
+			LocalDate localDate = LocalDate.of(2020, 1, 2);
+			Assert.assertEquals(" 测试节", Holiday.getLocalHoliday(localDate));
+			Assert.assertEquals(" 测试节", LocalHolidayEnum.getHolidayName(localDate));
+			Assert.assertEquals(Arrays.asList(new HolidayEntry(localDate, "测试节", HolidayEntry.Type.LOCAL)),
+					Holiday.between(localDate, localDate));
+			Assert.assertEquals(" 农历测试节", Holiday.getChineseHoliday(LunarDate.of(2020, 1, 2).getLocalDate()));
+			Assert.assertEquals(" 农历测试节", ChineseHolidayEnum.getHolidayName(LunarDate.of(2020, 1, 2).getLocalDate()));
+			Assert.assertEquals("", Holiday.getChineseHoliday(LocalDate.of(2020, 1, 25)));
+			reloaded = HolidayCalendar.getDefault();
+			
+			//加载失败时保留原日历
+			try {
+				HolidayCalendar.reload(() -> {
+					throw new IllegalStateException("load error");
+				});
+				Assert.fail();
+			} catch (IllegalStateException e) {
+				Assert.assertSame(reloaded, HolidayCalendar.getDefault());
+			}
+			Assert.assertEquals(-1, HolidayCalendar.getLastReloadNanos("none"));
+		} finally {
+			executor.shutdown();
+			HolidayCalendar.register(mainland);
+		}
+	}
+
+	/**
+	 * 区间节日查询，与逐日查询结果相同
+	 */
+	@Test
+	public void holidayBetweenTest(){
+		HolidayCalendar holidayCalendar = HolidayCalendar.getDefault();
+		LocalDate start = LocalDate.of(2019, 12, 15);
+		LocalDate end = LocalDate.of(2022, 2, 10);
+		List<HolidayEntry> expected = new ArrayList<>();
+		for (LocalDate localDate = start; !localDate.isAfter(end); localDate = localDate.plusDays(1)) {
+			String localHoliday = holidayCalendar.getLocalHoliday(localDate);
+			if (!localHoliday.isEmpty()) {
+				expected.add(new HolidayEntry(localDate, localHoliday.trim(), HolidayEntry.Type.LOCAL));
+			}
+			String chineseHoliday = holidayCalendar.getChineseHoliday(localDate);
+			if (!chineseHoliday.isEmpty()) {
+				expected.add(new HolidayEntry(localDate, chineseHoliday.trim(), HolidayEntry.Type.CHINESE));
+			}
+		}
+		Assert.assertEquals(expected, Holiday.between(start, end));
+		Assert.assertEquals(expected, Holiday.stream(start, end).collect(Collectors.toList()));
+		
+		//2020年第一季度
+		List<HolidayEntry> quarter = Holiday.between(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 3, 31));
+		Assert.assertEquals(new HolidayEntry(LocalDate.of(2020, 1, 1), "元旦", HolidayEntry.Type.LOCAL), quarter.get(0));
+		Assert.assertTrue(quarter.contains(new HolidayEntry(LocalDate.of(2020, 1, 24), "除夕", HolidayEntry.Type.CHINESE)));
+		Assert.assertTrue(Holiday.between(end, start).isEmpty());
+		
+		//跨多年延迟计算
+		Assert.assertEquals(new HolidayEntry(LocalDate.of(1950, 1, 1), "元旦", HolidayEntry.Type.LOCAL),
+				Holiday.stream(LocalDate.of(1950, 1, 1), LocalDate.of(2100, 12, 31)).findFirst().get());
+	}
 }
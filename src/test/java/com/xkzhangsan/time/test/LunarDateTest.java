@@ -0,0 +1,316 @@
+package com.xkzhangsan.time.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.xkzhangsan.time.LunarDate;
+import com.xkzhangsan.time.LunarDateCache;
+
+public class LunarDateTest {
+
+	/**
+	 * 农历转换，支持农历1900-2100年
+	 */
+	@Test
+	public void lunarDateRangeTest(){
+		//农历1900年正月初一
+		LunarDate first = LunarDate.from(LocalDate.of(1900, 1, 31));
+		Assert.assertEquals(1900, first.getlYear());
+		Assert.assertEquals(1, first.getlMonth());
+		Assert.assertEquals(1, first.getlDay());
+
+		//二〇二〇年闰四月初一
+		LunarDate leap = LunarDate.from(LocalDate.of(2020, 5, 23));
+		Assert.assertEquals("二〇二〇年闰四月初一", leap.getlDateCn());
+
+		//二〇三三年闰冬月初一
+		LunarDate leap2033 = LunarDate.from(LocalDate.of(2033, 12, 22));
+		Assert.assertEquals("闰", leap2033.getLeapMonthCn());
+		Assert.assertEquals(11, leap2033.getlMonth());
+
+		//农历2100年腊月廿九，支持的最后一天
+		LunarDate last = LunarDate.from(LocalDate.of(2101, 1, 28));
+		Assert.assertEquals(2100, last.getlYear());
+		Assert.assertEquals(12, last.getlMonth());
+		Assert.assertEquals(29, last.getlDay());
+		System.out.println(last.formatLongCn());
+	}
+
+	/**
+	 * 超出范围抛出异常
+	 */
+	@Test(expected = DateTimeException.class)
+	public void lunarDateOutOfRangeTest(){
+		LunarDate.calElement(2101, 1, 29);
+	}
+
+	/**
+	 * 二十四节气
+	 */
+	@Test
+	public void solarTermTest(){
+		//2020-07-06 小暑
+		Assert.assertEquals(6, LunarDate.solarTerm(2020, 12));
+		Assert.assertEquals("小暑", LunarDate.from(LocalDate.of(2020, 7, 6)).getSolarTerm());
+		//2100-12-22 冬至
+		Assert.assertEquals("冬至", LunarDate.from(LocalDate.of(2100, 12, 22)).getSolarTerm());
+		
+		//查表获取节气序号，2020-08-07 立秋
+		Assert.assertEquals(14, LunarDate.solarTermIndex(2020, 8, 7));
+		Assert.assertEquals(-1, LunarDate.solarTermIndex(2020, 8, 8));
+		Assert.assertEquals(23, LunarDate.solarTermIndex(LocalDate.of(2020, 12, 21)));
+	}
+
+	/**
+	 * LunarDate缓存，相同日期共享实例
+	 */
+	@Test
+	public void lunarDateCacheTest(){
+		LunarDateCache.clear();
+		LocalDate localDate = LocalDate.of(2020, 1, 24);
+		LunarDate lunarDate = LunarDate.from(localDate);
+		Assert.assertSame(lunarDate, LunarDate.from(localDate));
+		Assert.assertSame(lunarDate, LunarDate.from(localDate.atStartOfDay()));
+		Assert.assertEquals(2, LunarDateCache.getHitCount());
+		Assert.assertEquals(1, LunarDateCache.getMissCount());
+		Assert.assertEquals(1, LunarDateCache.getSize());
+		System.out.println(LunarDateCache.getHitRate());
+	}
+
+	/**
+	 * 农历数值和中文信息
+	 */
+	@Test
+	public void lunarDateFieldTest(){
+		LunarDate lunarDate = LunarDate.from(LocalDate.of(2020, 5, 23));
+		Assert.assertEquals(2020, lunarDate.getlYear());
+		Assert.assertEquals(4, lunarDate.getlMonth());
+		Assert.assertEquals(1, lunarDate.getlDay());
+		Assert.assertTrue(lunarDate.isLeapMonth());
+		Assert.assertEquals(-1, lunarDate.getSolarTermIndex());
+		Assert.assertEquals("庚子", lunarDate.getSuiCi());
+		Assert.assertEquals("鼠", lunarDate.getlAnimal());
+		Assert.assertEquals("初一", lunarDate.getlDayCn());
+		Assert.assertEquals("星期六", lunarDate.getWeekCn());
+		Assert.assertSame(lunarDate.getlDateCn(), lunarDate.getlDateCn());
+		System.out.println(lunarDate);
+	}
+
+	/**
+	 * 农历转公历
+	 */
+	@Test
+	public void lunarToLocalDateTest(){
+		//2020年闰四月初一
+		Assert.assertEquals(LocalDate.of(2020, 5, 23), LunarDate.of(2020, 4, 1, true).toLocalDate());
+		Assert.assertEquals(LocalDate.of(2020, 4, 23), LunarDate.of(2020, 4, 1).toLocalDate());
+		//2020年春节，2021年除夕
+		Assert.assertEquals(LocalDate.of(2020, 1, 25), LunarDate.of(2020, 1, 1).toLocalDate());
+		Assert.assertEquals(LocalDate.of(2021, 2, 11), LunarDate.of(2020, 12, 30).toLocalDate());
+		
+		//公历和农历互相转换
+		for (LocalDate localDate = LocalDate.of(2019, 1, 1); localDate.getYear() < 2022; localDate = localDate.plusDays(1)) {
+			LunarDate lunarDate = LunarDate.from(localDate);
+			Assert.assertEquals(localDate, LunarDate.of(lunarDate.getlYear(), lunarDate.getlMonth(), lunarDate.getlDay(),
+					lunarDate.isLeapMonth()).toLocalDate());
+		}
+	}
+	
+	/**
+	 * 农历日期不存在，2020年没有闰五月
+	 */
+	@Test(expected = DateTimeException.class)
+	public void lunarToLocalDateInvalidTest(){
+		LunarDate.of(2020, 5, 1, true);
+	}
+	
+	/**
+	 * 批量转换为农历数值信息
+	 */
+	@Test
+	public void toLunarValuesTest(){
+		int start = (int) LocalDate.of(1900, 1, 31).toEpochDay();
+		int end = (int) LocalDate.of(2101, 1, 28).toEpochDay();
+		int[] epochDays = new int[end - start + 2];
+		for (int i = 0; i < epochDays.length; i++) {
+			epochDays[i] = start + i;
+		}
+		int[] lunarValues = new int[epochDays.length];
+		LunarDate.toLunarValues(epochDays, lunarValues, true);
+		for (int i = 0; i < epochDays.length - 1; i++) {
+			LunarDate lunarDate = LunarDate.from(LocalDate.ofEpochDay(epochDays[i]));
+			int value = lunarValues[i];
+			Assert.assertEquals(lunarDate.getlYear(), LunarDate.unpackYear(value));
+			Assert.assertEquals(lunarDate.getlMonth(), LunarDate.unpackMonth(value));
+			Assert.assertEquals(lunarDate.getlDay(), LunarDate.unpackDay(value));
+			Assert.assertEquals(lunarDate.isLeapMonth(), LunarDate.unpackLeap(value));
+			Assert.assertEquals(lunarDate.getSolarTermIndex(), LunarDate.unpackSolarTermIndex(value));
+		}
+		//超出范围为0
+		Assert.assertEquals(0, lunarValues[epochDays.length - 1]);
+		//在ForkJoinPool线程中顺序转换，不拆分任务，结果相同
+		int[] sequentialValues = ForkJoinPool.commonPool().submit(() -> {
+			int[] values = new int[epochDays.length];
+			LunarDate.toLunarValues(epochDays, values, false);
+			return values;
+		}).join();
+		Assert.assertArrayEquals(lunarValues, sequentialValues);
+		
+		//时间戳，跨越夏令时
+		ZoneId zoneId = ZoneId.of("America/New_York");
+		LocalDateTime localDateTime = LocalDateTime.of(2020, 3, 7, 23, 30);
+		long[] epochMillis = new long[96];
+		for (int i = 0; i < epochMillis.length; i++) {
+			epochMillis[i] = localDateTime.plusHours(i).atZone(zoneId).toInstant().toEpochMilli();
+		}
+		int[] millisValues = new int[epochMillis.length];
+		LunarDate.toLunarValues(epochMillis, zoneId, millisValues);
+		for (int i = 0; i < epochMillis.length; i++) {
+			LunarDate lunarDate = LunarDate.from(localDateTime.plusHours(i).atZone(zoneId).toLocalDate());
+			Assert.assertEquals(lunarDate.getlDay(), LunarDate.unpackDay(millisValues[i]));
+		}
+	}
+	
+	/**
+	 * 公历区间逐日生成农历日期，跨越闰月和农历年
+	 */
+	@Test
+	public void lunarDateStreamTest(){
+		LocalDate start = LocalDate.of(1900, 1, 31);
+		LocalDate end = LocalDate.of(2101, 1, 28);
+		List<LunarDate> lunarDateList = LunarDate.stream(start, end).parallel().collect(Collectors.toList());
+		Assert.assertEquals(end.toEpochDay() - start.toEpochDay() + 1, lunarDateList.size());
+		for (LunarDate lunarDate : lunarDateList) {
+			LunarDate expected = LunarDate.from(lunarDate.getLocalDate());
+			Assert.assertEquals(expected.getlDateCn(), lunarDate.getlDateCn());
+			Assert.assertEquals(expected.getSolarTermIndex(), lunarDate.getSolarTermIndex());
+		}
+		Assert.assertEquals(0, LunarDate.stream(end, start).count());
+		Assert.assertEquals("二〇二〇年闰四月初一", LunarDate.stream(LocalDate.of(2020, 5, 20), LocalDate.of(2020, 5, 23))
+				.reduce((first, second) -> second).get().getlDateCn());
+	}
+	
+	/**
+	 * 农历日期计算
+	 */
+	@Test
+	public void lunarPlusTest(){
+		LunarDate lunarDate = LunarDate.of(2020, 4, 1);
+		//2020年四月初一加1个月为闰四月初一
+		Assert.assertEquals(LunarDate.of(2020, 4, 1, true), lunarDate.plusLunarMonths(1));
+		Assert.assertEquals(LunarDate.of(2020, 5, 1), lunarDate.plusLunarMonths(2));
+		Assert.assertEquals(lunarDate, lunarDate.plusLunarMonths(2).minusLunarMonths(2));
+		//2020年闰四月加1年，2021年没有闰四月，为四月
+		Assert.assertEquals(LunarDate.of(2021, 4, 1), LunarDate.of(2020, 4, 1, true).plusLunarYears(1));
+		//2020年腊月三十加1年，2021年腊月只有29天
+		Assert.assertEquals(LunarDate.of(2021, 12, 29), LunarDate.of(2020, 12, 30).plusLunarYears(1));
+		Assert.assertEquals(LunarDate.of(2019, 12, 30), LunarDate.of(2020, 12, 30).minusLunarYears(1));
+		Assert.assertEquals(LunarDate.of(2020, 1, 1), LunarDate.of(2019, 12, 30).plusDays(1));
+		Assert.assertEquals(LocalDate.of(2020, 2, 1), lunarDate.plus(1, ChronoUnit.WEEKS)
+				.with(ChronoField.DAY_OF_YEAR, 32).getLocalDate());
+	}
+	
+	/**
+	 * Temporal方法按公历计算，JDK的TemporalAdjuster和Period可以用于LunarDate
+	 */
+	@Test
+	public void lunarTemporalTest(){
+		LunarDate lunarDate = LunarDate.from(LocalDate.of(2020, 1, 15));
+		Assert.assertEquals(LocalDate.of(2020, 2, 1),
+				((LunarDate) lunarDate.with(TemporalAdjusters.firstDayOfNextMonth())).getLocalDate());
+		Assert.assertEquals(LocalDate.of(2020, 1, 31),
+				((LunarDate) lunarDate.with(TemporalAdjusters.lastDayOfMonth())).getLocalDate());
+		Assert.assertEquals(LocalDate.of(2020, 2, 15), ((LunarDate) lunarDate.plus(Period.ofMonths(1))).getLocalDate());
+		Assert.assertEquals(LocalDate.of(2021, 1, 15), lunarDate.plus(1, ChronoUnit.YEARS).getLocalDate());
+		Assert.assertEquals(1, lunarDate.until(lunarDate.plus(1, ChronoUnit.MONTHS), ChronoUnit.MONTHS));
+		Assert.assertEquals(31, lunarDate.until(lunarDate.plus(1, ChronoUnit.MONTHS), ChronoUnit.DAYS));
+		Assert.assertEquals(lunarDate, lunarDate.plus(3, ChronoUnit.YEARS).minus(3, ChronoUnit.YEARS));
+	}
+	
+	/**
+	 * 区间内每个农历十五
+	 */
+	@Test
+	public void lunarDayListTest(){
+		List<LunarDate> lunarDateList = LunarDate.getLunarDayList(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31), 15);
+		//农历2019年腊月十五至2020年冬月十五，2020年有闰四月，共13个农历十五
+		Assert.assertEquals(13, lunarDateList.size());
+		for (LunarDate lunarDate : lunarDateList) {
+			Assert.assertEquals(15, lunarDate.getlDay());
+		}
+		Assert.assertEquals(LocalDate.of(2020, 1, 9), lunarDateList.get(0).getLocalDate());
+		//农历三十只在大月
+		Assert.assertTrue(LunarDate.getLunarDayList(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31), 30).size() < 13);
+	}
+	
+	/**
+	 * 年、月、日干支
+	 */
+	@Test
+	public void ganZhiTest(){
+		LunarDate lunarDate = LunarDate.of(2020, 1, 1);
+		Assert.assertEquals("庚子", lunarDate.getSuiCi());
+		Assert.assertEquals("戊寅", lunarDate.getMonthGanZhi());
+		Assert.assertEquals("丁卯", lunarDate.getDayGanZhi());
+		Assert.assertSame(lunarDate.getDayGanZhi(), LunarDate.cyclicalDay(LocalDate.of(2020, 3, 25)));
+		Assert.assertEquals("戊午", LunarDate.cyclicalDay(LocalDate.of(2000, 1, 1)));
+		
+		//与calElement一致
+		long[] element = LunarDate.calElement(2020, 5, 23);
+		LunarDate leap = LunarDate.from(LocalDate.of(2020, 5, 23));
+		Assert.assertEquals(element[4] % 60, indexOf(leap.getMonthGanZhi()));
+		Assert.assertEquals(element[5] % 60, indexOf(leap.getDayGanZhi()));
+	}
+	
+	private static int indexOf(String ganZhi) {
+		for (int i = 0; i < 60; i++) {
+			if (LunarDate.cyclicalDay(LocalDate.of(2000, 1, 1).plusDays(i - 54)).equals(ganZhi)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * 序列化只保存epochDay
+	 */
+	@Test
+	public void serializeTest() throws IOException, ClassNotFoundException{
+		LunarDate lunarDate = LunarDate.of(2020, 4, 1, true);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(lunarDate);
+		}
+		System.out.println("serialized size:" + bytes.size());
+		Assert.assertTrue(bytes.size() < 100);
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			LunarDate read = (LunarDate) in.readObject();
+			Assert.assertEquals(lunarDate, read);
+			Assert.assertEquals("二〇二〇年闰四月初一", read.getlDateCn());
+		}
+		
+		//批量编码
+		List<LunarDate> lunarDateList = LunarDate.getLunarDayList(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31), 1);
+		ByteBuffer buffer = LunarDate.encode(lunarDateList);
+		Assert.assertEquals(4 + lunarDateList.size() * 4, buffer.remaining());
+		Assert.assertEquals(lunarDateList, LunarDate.decode(buffer));
+	}
+}
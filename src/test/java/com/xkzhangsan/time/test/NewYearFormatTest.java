@@ -5,6 +5,7 @@ import java.util.Date;
 
 import com.xkzhangsan.time.LunarDate;
 import com.xkzhangsan.time.converter.DateTimeConverterUtil;
+import com.xkzhangsan.time.formatter.DateTimeFormatterEnum;
 import com.xkzhangsan.time.formatter.DateTimeFormatterUtil;
 
 public class NewYearFormatTest {
@@ -17,47 +18,47 @@ public class NewYearFormatTest {
 		System.out.println("Hello " + lunarDate.formatLongCnWithChineseHoliday());
 		
 		System.out.println("=============================");
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_CN_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_EN_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYYMM_FMT));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_CN.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_EN.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYYMM.getFormatter()));
 		
 		System.out.println("=============================");
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_CN_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_EN_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_POINT_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_E_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYYMMDD_FMT));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_CN.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_EN.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_POINT.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_E.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYYMMDD.getFormatter()));
 		
 		System.out.println("=============================");
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYYMMDDHHMM_FMT));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_HH_MM.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYYMMDDHHMM.getFormatter()));
 		
 		System.out.println("=============================");
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_CN_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_A_CN_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYYMMDDHHMMSS_FMT));//22
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS_CN.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS_A_CN.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYYMMDDHHMMSS.getFormatter()));//22
 		
 		System.out.println("=============================");
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYY_MM_DD_HH_MM_SS_SSS_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.YYYYMMDDHHMMSSSSS_FMT));		
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYY_MM_DD_HH_MM_SS_SSS.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.YYYYMMDDHHMMSSSSS.getFormatter()));		
 		
 		System.out.println("=============================");
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.MM_DD_HH_MM_SS_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.MM_DD_HH_MM_SS_CN_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.MM_DD_HH_MM_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.MM_DD_HH_MM_CN_FMT));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.MM_DD_HH_MM_SS.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.MM_DD_HH_MM_SS_CN.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.MM_DD_HH_MM.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.MM_DD_HH_MM_CN.getFormatter()));
 		
 		System.out.println("=============================");
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.MM_DD_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.MM_DD_CN_FMT));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.MM_DD.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.MM_DD_CN.getFormatter()));
 		
 		System.out.println("=============================");
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.HH_MM_SS_FMT));
-		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterUtil.HHMMSS_FMT));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.HH_MM_SS.getFormatter()));
+		System.out.println(DateTimeFormatterUtil.format(date, DateTimeFormatterEnum.HHMMSS.getFormatter()));
 		System.out.println("=============================");
 	}
 }